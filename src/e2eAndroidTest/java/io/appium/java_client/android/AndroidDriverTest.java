@@ -23,16 +23,20 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.ScreenOrientation;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -185,6 +189,20 @@ public class AndroidDriverTest extends BaseAndroidTest {
         }
     }
 
+    @Test
+    public void pullFileToPathTest() throws Exception {
+        File temp = File.createTempFile("Temp_", "_test");
+        try {
+            byte[] data = new byte[1024 * 1024];
+            new Random().nextBytes(data);
+            driver.pushFile("/data/local/tmp/remote3.bin", new ByteArrayInputStream(data), data.length);
+            driver.pullFile("/data/local/tmp/remote3.bin", temp.toPath());
+            assertArrayEquals(data, Files.readAllBytes(temp.toPath()));
+        } finally {
+            FileUtils.forceDelete(temp);
+        }
+    }
+
     @Test
     public void toggleLocationServicesTest() {
         driver.toggleLocationServices();
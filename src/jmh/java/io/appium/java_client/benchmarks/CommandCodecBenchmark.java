@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.benchmarks;
+
+import io.appium.java_client.remote.AppiumW3CHttpCommandCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.openqa.selenium.remote.DriverCommand.EXECUTE_SCRIPT;
+import static org.openqa.selenium.remote.DriverCommand.GET_ELEMENT_ATTRIBUTE;
+import static org.openqa.selenium.remote.http.Contents.bytes;
+
+/**
+ * Measures the cost of turning commands into HTTP requests and HTTP responses back into
+ * {@link Response} instances without any network activity involved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CommandCodecBenchmark {
+    private static final SessionId SESSION_ID = new SessionId("c0ffee");
+    private static final byte[] ATTRIBUTE_RESPONSE = "{\"value\":\"Login\"}".getBytes(UTF_8);
+    private static final byte[] SCRIPT_RESPONSE = ("{\"value\":{\"stdout\":\"package:io.appium.settings\","
+            + "\"stderr\":\"\",\"exitCode\":0}}").getBytes(UTF_8);
+
+    private AppiumW3CHttpCommandCodec commandCodec;
+    private W3CHttpResponseCodec responseCodec;
+    private Command getAttributeCommand;
+    private Command executeScriptCommand;
+
+    /**
+     * Initializes codecs and commands shared by all invocations.
+     */
+    @Setup
+    public void setUp() {
+        commandCodec = new AppiumW3CHttpCommandCodec();
+        responseCodec = new W3CHttpResponseCodec();
+        getAttributeCommand = new Command(SESSION_ID, GET_ELEMENT_ATTRIBUTE,
+                Map.of("id", "element-1", "name", "text"));
+        executeScriptCommand = new Command(SESSION_ID, EXECUTE_SCRIPT, Map.of(
+                "script", "mobile: shell",
+                "args", List.of(Map.of("command", "pm", "args", List.of("list", "packages")))
+        ));
+    }
+
+    @Benchmark
+    public HttpRequest encodeGetAttribute() {
+        return commandCodec.encode(getAttributeCommand);
+    }
+
+    @Benchmark
+    public HttpRequest encodeExecuteScript() {
+        return commandCodec.encode(executeScriptCommand);
+    }
+
+    @Benchmark
+    public Response decodeAttributeResponse() {
+        return responseCodec.decode(newJsonResponse(ATTRIBUTE_RESPONSE));
+    }
+
+    @Benchmark
+    public Response decodeScriptResponse() {
+        return responseCodec.decode(newJsonResponse(SCRIPT_RESPONSE));
+    }
+
+    private static HttpResponse newJsonResponse(byte[] payload) {
+        return new HttpResponse()
+                .setStatus(200)
+                .setHeader("Content-Type", "application/json; charset=utf-8")
+                .setContent(bytes(payload));
+    }
+}
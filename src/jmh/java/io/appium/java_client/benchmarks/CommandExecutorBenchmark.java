@@ -0,0 +1,122 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.benchmarks;
+
+import io.appium.java_client.AppiumClientConfig;
+import io.appium.java_client.CommandExecutionHelper;
+import io.appium.java_client.ExecutesMethod;
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import io.appium.java_client.remote.AppiumW3CHttpCommandCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.openqa.selenium.remote.DriverCommand.GET_ELEMENT_ATTRIBUTE;
+
+/**
+ * Measures the full client side path of a single command: the executor,
+ * the command codec, the HTTP filters chain and the response codec.
+ * The HTTP layer is replaced with {@link StubHttpClient}, so no network activity is involved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommandExecutorBenchmark {
+    private static final SessionId SESSION_ID = new SessionId("c0ffee");
+    private static final String RESPONSE_BODY = "{\"value\":{\"stdout\":\"package:io.appium.settings\","
+            + "\"stderr\":\"\",\"exitCode\":0}}";
+
+    private AppiumCommandExecutor executor;
+    private ExecutesMethod executesMethod;
+    private HttpHandler filteredHandler;
+    private Command getAttributeCommand;
+    private Map<String, Object> shellArgs;
+
+    /**
+     * Initializes an executor attached to a fake session.
+     *
+     * @throws MalformedURLException if the server URL is malformed.
+     */
+    @Setup
+    public void setUp() throws MalformedURLException {
+        AppiumClientConfig clientConfig = AppiumClientConfig.defaultConfig()
+                .baseUrl(new URL("http://127.0.0.1:4723"));
+        executor = new AppiumCommandExecutor(MobileCommand.commandRepository, null,
+                StubHttpClient.factory(RESPONSE_BODY), clientConfig);
+        // Same as attaching to an existing session, so NEW_SESSION handshake is skipped
+        executor.setCommandCodec(new AppiumW3CHttpCommandCodec());
+        executor.setResponseCodec(new W3CHttpResponseCodec());
+        executor.refreshAdditionalCommands();
+
+        executesMethod = new ExecutesMethod() {
+            @Override
+            public Response execute(String driverCommand, Map<String, ?> parameters) {
+                return executor.execute(new Command(SESSION_ID, driverCommand, parameters));
+            }
+
+            @Override
+            public Response execute(String driverCommand) {
+                return execute(driverCommand, Map.of());
+            }
+        };
+
+        filteredHandler = clientConfig.filter().andFinally(req -> new HttpResponse().setStatus(200));
+        getAttributeCommand = new Command(SESSION_ID, GET_ELEMENT_ATTRIBUTE,
+                Map.of("id", "element-1", "name", "text"));
+        shellArgs = Map.of("command", "pm", "args", List.of("list", "packages"));
+    }
+
+    @Benchmark
+    public Response executeGetAttribute() {
+        return executor.execute(getAttributeCommand);
+    }
+
+    @Benchmark
+    public Object executeMobileScript() {
+        return CommandExecutionHelper.executeScript(executesMethod, "mobile: shell", shellArgs);
+    }
+
+    @Benchmark
+    public HttpResponse filtersChainCommandRequest() {
+        return filteredHandler.execute(
+                new HttpRequest(HttpMethod.GET, "/session/c0ffee/element/element-1/attribute/text"));
+    }
+
+    @Benchmark
+    public HttpResponse filtersChainNewSessionRequest() {
+        return filteredHandler.execute(new HttpRequest(HttpMethod.POST, "/session"));
+    }
+}
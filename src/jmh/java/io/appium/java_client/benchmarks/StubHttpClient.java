@@ -0,0 +1,86 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.benchmarks;
+
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpHandler;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.openqa.selenium.remote.http.Contents.bytes;
+
+/**
+ * In-process HTTP client that never touches the network.
+ * Requests are passed through the filters of the given client config
+ * (user agent, idempotency key, etc.) and then answered with a canned
+ * W3C payload, so benchmarks measure the client side only.
+ */
+public class StubHttpClient implements HttpClient {
+    private final HttpHandler handler;
+
+    /**
+     * Creates a new stub client.
+     *
+     * @param config the client config whose filters are applied to every request.
+     * @param responseBody the JSON payload every request is answered with.
+     */
+    public StubHttpClient(ClientConfig config, String responseBody) {
+        byte[] payload = responseBody.getBytes(UTF_8);
+        this.handler = config.filter().andFinally(req -> new HttpResponse()
+                .setStatus(200)
+                .setHeader("Content-Type", "application/json; charset=utf-8")
+                .setContent(bytes(payload)));
+    }
+
+    /**
+     * Creates a factory producing stub clients, which always answer with the given payload.
+     *
+     * @param responseBody the JSON payload every request is answered with.
+     * @return the factory instance.
+     */
+    public static HttpClient.Factory factory(String responseBody) {
+        return new HttpClient.Factory() {
+            @Override
+            public HttpClient createClient(ClientConfig config) {
+                return new StubHttpClient(config, responseBody);
+            }
+        };
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest req) {
+        return handler.execute(req);
+    }
+
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest req) {
+        return CompletableFuture.completedFuture(execute(req));
+    }
+
+    @Override
+    public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+        throw new UnsupportedOperationException("Web sockets are not supported by the stub client");
+    }
+
+    @Override
+    public void close() {
+    }
+}
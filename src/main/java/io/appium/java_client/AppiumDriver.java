@@ -76,7 +76,7 @@ public class AppiumDriver extends RemoteWebDriver implements
         HasSettings,
         HasBiDi {
 
-    private static final ErrorHandler ERROR_HANDLER = new ErrorHandler(new ErrorCodesMobile(), true);
+    static final ErrorHandler ERROR_HANDLER = new ErrorHandler(new ErrorCodesMobile(), true);
     // frequently used command parameters
     @Getter
     private final URL remoteAddress;
@@ -231,6 +231,16 @@ public class AppiumDriver extends RemoteWebDriver implements
         return super.execute(command, Collections.emptyMap());
     }
 
+    /**
+     * Returns a facade executing commands of the current session without blocking the calling thread.
+     * See {@link AsyncAppiumDriver} for more details.
+     *
+     * @return the asynchronous facade bound to this driver instance
+     */
+    public AsyncAppiumDriver async() {
+        return new AsyncAppiumDriver(this);
+    }
+
     @Override
     public <X> X getScreenshotAs(OutputType<X> outputType) {
         // TODO: Eventually we should not override this method.
@@ -17,6 +17,7 @@
 package io.appium.java_client;
 
 import com.google.common.base.Throwables;
+import io.appium.java_client.internal.jfr.FlightRecorderEvents;
 import lombok.AccessLevel;
 import lombok.Getter;
 import org.jspecify.annotations.NonNull;
@@ -30,8 +31,10 @@ import org.openqa.selenium.support.ui.Sleeper;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -40,6 +43,8 @@ public class AppiumFluentWait<T> extends FluentWait<T> {
     @Nullable
     private Function<IterationInfo, Duration> pollingStrategy = null;
 
+    private final List<Consumer<WaitResult>> resultListeners = new ArrayList<>();
+
     private static final Duration DEFAULT_POLL_DELAY_DURATION = Duration.ZERO;
     private Duration pollDelay = DEFAULT_POLL_DELAY_DURATION;
 
@@ -86,6 +91,55 @@ public class AppiumFluentWait<T> extends FluentWait<T> {
         }
     }
 
+    public static class WaitResult {
+        /**
+         * The count of condition evaluations.
+         *
+         * @return the count of condition evaluations
+         */
+        @Getter(AccessLevel.PUBLIC) private final long iterations;
+        /**
+         * The amount of time elapsed since the wait has been started.
+         *
+         * @return the amount of elapsed time, which includes the poll delay
+         */
+        @Getter(AccessLevel.PUBLIC) private final Duration elapsed;
+        /**
+         * Whether the condition has been satisfied.
+         *
+         * @return true if the condition has been satisfied or false if the wait has timed out
+         */
+        @Getter(AccessLevel.PUBLIC) private final boolean successful;
+
+        /**
+         * The class is used to represent the outcome of {@link #until(Function)} method.
+         *
+         * @param iterations the count of condition evaluations
+         * @param elapsed the amount of time elapsed since the wait has been started
+         * @param successful whether the condition has been satisfied
+         */
+        public WaitResult(long iterations, Duration elapsed, boolean successful) {
+            this.iterations = iterations;
+            this.elapsed = elapsed;
+            this.successful = successful;
+        }
+    }
+
+    /**
+     * Polling strategy, which is notified about wait results,
+     * so it could adjust intervals of subsequent waits.
+     * See {@link PollingStrategies} and {@link LearnedPollingStrategy} for built-in implementations.
+     */
+    public interface PollingStrategy extends Function<IterationInfo, Duration> {
+        /**
+         * Is called once the wait, which uses this strategy, is completed either successfully or by timeout.
+         *
+         * @param result the wait result
+         */
+        default void onWaitCompleted(WaitResult result) {
+        }
+    }
+
     /**
      * The input value to pass to the evaluated conditions.
      *
@@ -180,6 +234,9 @@ public class AppiumFluentWait<T> extends FluentWait<T> {
      *   wait.until(WebElement::isDisplayed);
      * </code>
      *
+     * Built-in strategies are available in {@link PollingStrategies} and {@link LearnedPollingStrategy}.
+     * If the strategy implements {@link PollingStrategy} then it is also notified about the wait result.
+     *
      * @param pollingStrategy Function instance, where the first parameter
      *                        is the information about the current loop iteration (see {@link IterationInfo})
      *                        and the expected result is the calculated interval. It is highly
@@ -191,6 +248,19 @@ public class AppiumFluentWait<T> extends FluentWait<T> {
         return this;
     }
 
+    /**
+     * Adds a listener, which is notified about the result of each {@link #until(Function)} call
+     * that has either succeeded or timed out. Listeners could be used to collect wait metrics,
+     * like iteration counts and time to success.
+     *
+     * @param listener The listener to add.
+     * @return A self reference.
+     */
+    public AppiumFluentWait<T> withResultListener(Consumer<WaitResult> listener) {
+        this.resultListeners.add(listener);
+        return this;
+    }
+
     /**
      * Repeatedly applies this instance's input value to the given function until one of the following
      * occurs:
@@ -224,9 +294,12 @@ public class AppiumFluentWait<T> extends FluentWait<T> {
         sleepInterruptibly(pollDelay);
 
         while (true) {
+            var span = FlightRecorderEvents.beginWaitIteration();
             try {
                 V value = isTrue.apply(getInput());
                 if (value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value))) {
+                    span.complete(iterationNumber, true, null);
+                    notifyWaitCompleted(start, iterationNumber, true);
                     return value;
                 }
 
@@ -237,10 +310,12 @@ public class AppiumFluentWait<T> extends FluentWait<T> {
             } catch (Throwable e) {
                 lastException = propagateIfNotIgnored(e);
             }
+            span.complete(iterationNumber, false, lastException);
 
             // Check the timeout after evaluating the function to ensure conditions
             // with a zero timeout can succeed.
             if (end.isBefore(getClock().instant())) {
+                notifyWaitCompleted(start, iterationNumber, false);
                 handleTimeoutException(lastException, isTrue);
             }
 
@@ -267,6 +342,17 @@ public class AppiumFluentWait<T> extends FluentWait<T> {
         throw timeoutException(timeoutMessage, lastException);
     }
 
+    private void notifyWaitCompleted(Instant start, long iterationNumber, boolean isSuccessful) {
+        if (resultListeners.isEmpty() && !(pollingStrategy instanceof PollingStrategy)) {
+            return;
+        }
+        var result = new WaitResult(iterationNumber, Duration.between(start, getClock().instant()), isSuccessful);
+        if (pollingStrategy instanceof PollingStrategy) {
+            ((PollingStrategy) pollingStrategy).onWaitCompleted(result);
+        }
+        resultListeners.forEach(listener -> listener.accept(result));
+    }
+
     private Duration getIntervalWithPollingStrategy(Instant start, long iterationNumber) {
         var interval = getInterval();
         return Optional.ofNullable(pollingStrategy)
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client;
+
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.JsonToWebElementConverter;
+import org.openqa.selenium.remote.Response;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+import static org.openqa.selenium.remote.DriverCommand.EXECUTE_SCRIPT;
+
+/**
+ * Executes commands of an existing driver session without blocking the calling thread.
+ * Requests are sent via the non-blocking API of the HTTP client created from
+ * the driver's {@link AppiumClientConfig}, so a single JVM may drive many sessions
+ * without dedicating a platform thread to each pending command.
+ * Responses are validated and converted the same way {@link AppiumDriver#execute(String, Map)} does it.
+ * Future callbacks are executed by the threads of the HTTP client, so they should not block.
+ * The session itself must be created and terminated using the synchronous driver API.
+ */
+public class AsyncAppiumDriver {
+    private final AppiumDriver driver;
+    private final JsonToWebElementConverter elementConverter;
+
+    public AsyncAppiumDriver(AppiumDriver driver) {
+        this.driver = requireNonNull(driver);
+        this.elementConverter = new JsonToWebElementConverter(driver);
+    }
+
+    /**
+     * Executes the given command asynchronously.
+     *
+     * @param driverCommand a command to execute
+     * @param parameters map of command parameters
+     * @return the future, which is completed with the result response or exceptionally
+     *     with {@link org.openqa.selenium.WebDriverException} if the command has failed
+     */
+    public CompletableFuture<Response> execute(String driverCommand, Map<String, ?> parameters) {
+        var executor = driver.getCommandExecutor();
+        if (!(executor instanceof AppiumCommandExecutor)) {
+            return CompletableFuture.failedFuture(new UnsupportedOperationException(String.format(
+                    "Asynchronous commands execution requires %s, got %s instead",
+                    AppiumCommandExecutor.class.getSimpleName(), executor.getClass().getName())));
+        }
+        var sessionId = driver.getSessionId();
+        if (sessionId == null) {
+            return CompletableFuture.failedFuture(new NoSuchSessionException(
+                    "Session ID is null. Using WebDriver after calling quit()?"));
+        }
+
+        var command = new Command(sessionId, driverCommand, parameters);
+        long start = System.currentTimeMillis();
+        return ((AppiumCommandExecutor) executor).executeAsync(command).thenApply(response -> {
+            AppiumDriver.ERROR_HANDLER.throwIfResponseFailed(response, System.currentTimeMillis() - start);
+            response.setValue(elementConverter.apply(response.getValue()));
+            return response;
+        });
+    }
+
+    /**
+     * Executes the given command without parameters asynchronously.
+     *
+     * @param driverCommand a command to execute
+     * @return the future, which is completed with the result response
+     */
+    public CompletableFuture<Response> execute(String driverCommand) {
+        return execute(driverCommand, Collections.emptyMap());
+    }
+
+    /**
+     * Executes an extension script asynchronously. Arguments are prepared
+     * the same way as {@link CommandExecutionHelper#executeScript(ExecutesMethod, String, Map)} does it.
+     *
+     * @param scriptName Extension script name.
+     * @param args       Extension script arguments (if present).
+     * @param <T>        The expected type of the script result.
+     * @return the future, which is completed with the script result
+     */
+    public <T> CompletableFuture<T> executeScript(String scriptName, @Nullable Map<String, ?> args) {
+        return execute(EXECUTE_SCRIPT, Map.of(
+                "script", scriptName,
+                "args", (args == null || args.isEmpty()) ? List.of() : List.of(args)
+        )).thenApply(response -> {
+            //noinspection unchecked
+            return (T) response.getValue();
+        });
+    }
+}
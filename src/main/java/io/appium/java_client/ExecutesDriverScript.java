@@ -16,6 +16,7 @@
 
 package io.appium.java_client;
 
+import io.appium.java_client.driverscripts.BatchExecutor;
 import io.appium.java_client.driverscripts.ScriptOptions;
 import io.appium.java_client.driverscripts.ScriptValue;
 import org.jspecify.annotations.Nullable;
@@ -68,4 +69,15 @@ public interface ExecutesDriverScript extends ExecutesMethod {
     default ScriptValue executeDriverScript(String script) {
         return executeDriverScript(script, null);
     }
+
+    /**
+     * Creates a new batch of commands, which are sent to the server in a single
+     * Execute Driver Script request. See {@link BatchExecutor} for more details.
+     *
+     * @since Appium 1.14
+     * @return a new empty batch bound to the current session
+     */
+    default BatchExecutor batch() {
+        return new BatchExecutor(this);
+    }
 }
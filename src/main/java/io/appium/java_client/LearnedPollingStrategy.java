@@ -0,0 +1,135 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client;
+
+import io.appium.java_client.AppiumFluentWait.IterationInfo;
+import io.appium.java_client.AppiumFluentWait.PollingStrategy;
+import io.appium.java_client.AppiumFluentWait.WaitResult;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Polling strategy, which learns how long it usually takes for conditions to be satisfied.
+ * The history is kept per condition key, for example, the condition description or the locator.
+ * Once the history for the key is known, the first interval is chosen, so the condition is evaluated
+ * again shortly before its expected completion time, and then the fallback strategy is used.
+ * Conditions without history are polled using the fallback strategy right away.
+ * The same instance should be shared between waits, for example:
+ * <code>
+ *   private static final LearnedPollingStrategy LEARNED_POLLING = new LearnedPollingStrategy();
+ *   ...
+ *   var condition = ExpectedConditions.visibilityOfElementLocated(AppiumBy.accessibilityId("login"));
+ *   new AppiumFluentWait&lt;&gt;(driver)
+ *     .withPollingStrategy(LEARNED_POLLING.forCondition(condition))
+ *     .withTimeout(Duration.ofSeconds(10))
+ *     .until(condition);
+ * </code>
+ */
+public class LearnedPollingStrategy {
+    private static final int MAX_KEYS = 10_000;
+    private static final double SMOOTHING_FACTOR = 0.3;
+    private static final double EARLY_START_RATIO = 0.8;
+
+    private final Map<String, Double> expectedDurationsMs = new ConcurrentHashMap<>();
+    private final Function<IterationInfo, Duration> fallbackStrategy;
+
+    /**
+     * Creates the strategy using {@link PollingStrategies#exponentialWithJitter(Duration, double, Duration)}
+     * with 50 ms initial interval as the fallback one.
+     */
+    public LearnedPollingStrategy() {
+        this(PollingStrategies.exponentialWithJitter(Duration.ofMillis(50), 1.5, Duration.ofSeconds(1)));
+    }
+
+    /**
+     * Creates the strategy with the custom fallback one.
+     *
+     * @param fallbackStrategy the strategy to use if there is no history for the condition
+     *                         or its expected completion time has passed
+     */
+    public LearnedPollingStrategy(Function<IterationInfo, Duration> fallbackStrategy) {
+        this.fallbackStrategy = requireNonNull(fallbackStrategy);
+    }
+
+    /**
+     * Returns the polling strategy for the condition identified by the given key.
+     *
+     * @param conditionKey the key of the condition
+     * @return the polling strategy, which also records the wait result into the history
+     */
+    public PollingStrategy forCondition(String conditionKey) {
+        requireNonNull(conditionKey);
+        return new PollingStrategy() {
+            @Override
+            public Duration apply(IterationInfo info) {
+                var expectedMs = expectedDurationsMs.get(conditionKey);
+                if (info.getNumber() == 1 && expectedMs != null) {
+                    var remainingMs = (long) (expectedMs * EARLY_START_RATIO) - info.getElapsed().toMillis();
+                    if (remainingMs > 0) {
+                        return Duration.ofMillis(remainingMs);
+                    }
+                }
+                return fallbackStrategy.apply(info);
+            }
+
+            @Override
+            public void onWaitCompleted(WaitResult result) {
+                if (result.isSuccessful()) {
+                    record(conditionKey, result.getElapsed());
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the polling strategy for the given condition.
+     * The condition string representation is used as the key,
+     * so it should describe the condition, like {@link org.openqa.selenium.support.ui.ExpectedConditions} do.
+     *
+     * @param condition the condition to wait for
+     * @return the polling strategy, which also records the wait result into the history
+     */
+    public PollingStrategy forCondition(Function<?, ?> condition) {
+        return forCondition(condition.toString());
+    }
+
+    /**
+     * Returns the expected time to success of the condition identified by the given key.
+     *
+     * @param conditionKey the key of the condition
+     * @return the smoothed average of previous successful wait durations
+     *     or an empty optional if there is no history for the condition
+     */
+    public Optional<Duration> getExpectedDuration(String conditionKey) {
+        return Optional.ofNullable(expectedDurationsMs.get(conditionKey))
+                .map(value -> Duration.ofMillis(Math.round(value)));
+    }
+
+    private void record(String conditionKey, Duration elapsed) {
+        if (expectedDurationsMs.size() >= MAX_KEYS && !expectedDurationsMs.containsKey(conditionKey)) {
+            expectedDurationsMs.clear();
+        }
+        expectedDurationsMs.merge(conditionKey, (double) elapsed.toMillis(),
+                (previous, current) -> previous + SMOOTHING_FACTOR * (current - previous));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client;
+
+import io.appium.java_client.AppiumFluentWait.IterationInfo;
+import io.appium.java_client.AppiumFluentWait.PollingStrategy;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Built-in polling strategies for {@link AppiumFluentWait#withPollingStrategy(java.util.function.Function)}.
+ * Strategies starting with short intervals let quickly satisfied conditions return sooner
+ * than with the default fixed interval, while intervals of long waits grow, so they make fewer requests.
+ */
+public class PollingStrategies {
+    private PollingStrategies() {
+    }
+
+    /**
+     * Creates the strategy, whose intervals grow exponentially.
+     * Each interval is randomly picked from the upper half of the calculated value,
+     * so parallel waits do not poll the server simultaneously.
+     *
+     * @param initialInterval the interval after the first iteration
+     * @param multiplier      the value each subsequent interval is multiplied by. Must be greater or equal to 1
+     * @param maxInterval     the maximum interval value
+     * @return the polling strategy
+     */
+    public static PollingStrategy exponentialWithJitter(
+            Duration initialInterval, double multiplier, Duration maxInterval) {
+        requireNonNull(initialInterval);
+        requireNonNull(maxInterval);
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("The multiplier must be greater or equal to 1");
+        }
+        return info -> {
+            var intervalMs = Math.min(maxInterval.toMillis(),
+                    initialInterval.toMillis() * Math.pow(multiplier, info.getNumber() - 1));
+            var halfMs = (long) (intervalMs / 2);
+            return Duration.ofMillis(halfMs + ThreadLocalRandom.current().nextLong(halfMs + 1));
+        };
+    }
+
+    /**
+     * Creates the strategy, whose intervals are the given unit multiplied by
+     * the Fibonacci number of the iteration (1, 1, 2, 3, 5, 8...).
+     *
+     * @param unit        the first interval value
+     * @param maxInterval the maximum interval value
+     * @return the polling strategy
+     */
+    public static PollingStrategy fibonacci(Duration unit, Duration maxInterval) {
+        requireNonNull(unit);
+        requireNonNull(maxInterval);
+        return info -> {
+            long previous = 0;
+            long current = 1;
+            for (long i = 1; i < info.getNumber() && unit.multipliedBy(current).compareTo(maxInterval) < 0; i++) {
+                var next = previous + current;
+                previous = current;
+                current = next;
+            }
+            var interval = unit.multipliedBy(current);
+            return interval.compareTo(maxInterval) > 0 ? maxInterval : interval;
+        };
+    }
+
+    /**
+     * Creates the strategy, which always returns the interval configured for the wait.
+     * It is useful as a fallback for other strategies.
+     *
+     * @return the polling strategy
+     */
+    public static PollingStrategy fixed() {
+        return IterationInfo::getInterval;
+    }
+}
@@ -16,9 +16,14 @@
 
 package io.appium.java_client;
 
+import io.appium.java_client.internal.StreamingFileTransfer;
 import org.openqa.selenium.UnsupportedCommandException;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.Map;
 
@@ -60,6 +65,40 @@ public interface PullsFiles extends ExecutesMethod, CanRememberExtensionPresence
         return Base64.getDecoder().decode(base64String.getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * Pull a file from the remote system and write its decoded content into the given stream.
+     * The payload is base64-decoded in chunks while it is being received from the server,
+     * so the file is never loaded into memory as a whole. The content is buffered though
+     * if the driver does not support streaming transfers
+     * (see {@link StreamingFileTransfer#isSupported(Object)}).
+     * Streaming transfers use a dedicated HTTP connection, which does not apply custom HTTP client
+     * filters or SSL settings of the session (see {@link StreamingFileTransfer}).
+     * Use {@link #pullFile(String)} if the session relies on them.
+     *
+     * @param remotePath See the documentation on {@link #pullFile(String)}
+     * @param destination The stream to write the file content to. It is not closed by this method.
+     * @throws IOException when there are problems with writing to the stream
+     */
+    default void pullFile(String remotePath, OutputStream destination) throws IOException {
+        if (!pullStreaming("mobile: pullFile", remotePath, destination)) {
+            destination.write(pullFile(remotePath));
+        }
+    }
+
+    /**
+     * Pull a file from the remote system and save it to the given local path.
+     * See {@link #pullFile(String, OutputStream)} for more details.
+     *
+     * @param remotePath See the documentation on {@link #pullFile(String)}
+     * @param destination The local file to write the content to. It is overridden if already exists.
+     * @throws IOException when there are problems with writing the file
+     */
+    default void pullFile(String remotePath, Path destination) throws IOException {
+        try (OutputStream out = Files.newOutputStream(destination)) {
+            pullFile(remotePath, out);
+        }
+    }
+
     /**
      * Pull a folder content from the remote system.
      * On Android the application under test should be
@@ -92,4 +131,44 @@ public interface PullsFiles extends ExecutesMethod, CanRememberExtensionPresence
         return Base64.getDecoder().decode(base64String.getBytes(StandardCharsets.UTF_8));
     }
 
+    /**
+     * Pull a folder content from the remote system and write the decoded zip archive into the given stream.
+     * See {@link #pullFile(String, OutputStream)} for more details on streaming.
+     *
+     * @param remotePath See the documentation on {@link #pullFolder(String)}
+     * @param destination The stream to write the zip archive to. It is not closed by this method.
+     * @throws IOException when there are problems with writing to the stream
+     */
+    default void pullFolder(String remotePath, OutputStream destination) throws IOException {
+        if (!pullStreaming("mobile: pullFolder", remotePath, destination)) {
+            destination.write(pullFolder(remotePath));
+        }
+    }
+
+    /**
+     * Pull a folder content from the remote system and save it as a zip archive to the given local path.
+     * See {@link #pullFile(String, OutputStream)} for more details on streaming.
+     *
+     * @param remotePath See the documentation on {@link #pullFolder(String)}
+     * @param destination The local zip file to write the content to. It is overridden if already exists.
+     * @throws IOException when there are problems with writing the file
+     */
+    default void pullFolder(String remotePath, Path destination) throws IOException {
+        try (OutputStream out = Files.newOutputStream(destination)) {
+            pullFolder(remotePath, out);
+        }
+    }
+
+    private boolean pullStreaming(String extName, String remotePath, OutputStream destination) throws IOException {
+        if (!StreamingFileTransfer.isSupported(this)) {
+            return false;
+        }
+        try {
+            assertExtensionExists(extName);
+        } catch (UnsupportedCommandException e) {
+            return false;
+        }
+        StreamingFileTransfer.pull((AppiumDriver) this, extName, remotePath, destination);
+        return true;
+    }
 }
@@ -16,12 +16,16 @@
 
 package io.appium.java_client;
 
+import io.appium.java_client.internal.StreamingFileTransfer;
 import org.openqa.selenium.UnsupportedCommandException;
 
+import java.io.EOFException;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.Map;
 
@@ -62,4 +66,52 @@ public interface PushesFiles extends ExecutesMethod, CanRememberExtensionPresenc
         pushFile(remotePath, Base64.getEncoder().encode(Files.readAllBytes(file.toPath())));
     }
 
+    /**
+     * Sends the file to the remote device.
+     * The file content is base64-encoded in chunks while it is being sent to the server,
+     * so it is never loaded into memory as a whole. The content is buffered though
+     * if the driver does not support streaming transfers
+     * (see {@link StreamingFileTransfer#isSupported(Object)}).
+     * Streaming transfers use a dedicated HTTP connection, which does not apply custom HTTP client
+     * filters or SSL settings of the session (see {@link StreamingFileTransfer}).
+     * Use {@link #pushFile(String, File)} if the session relies on them.
+     *
+     * @param remotePath See the documentation on {@link #pushFile(String, byte[])}
+     * @param file Is an existing local file to be written to the remote device
+     * @throws IOException when there are problems with a file on current file system
+     */
+    default void pushFile(String remotePath, Path file) throws IOException {
+        try (InputStream content = Files.newInputStream(file)) {
+            pushFile(remotePath, content, Files.size(file));
+        }
+    }
+
+    /**
+     * Sends the content of the given stream to the remote device.
+     * See {@link #pushFile(String, Path)} for more details.
+     *
+     * @param remotePath See the documentation on {@link #pushFile(String, byte[])}
+     * @param content The stream to read the file content from. It is not closed by this method.
+     * @param length The exact count of bytes to be read from the stream
+     * @throws IOException when there are problems with reading the stream
+     */
+    default void pushFile(String remotePath, InputStream content, long length) throws IOException {
+        final String extName = "mobile: pushFile";
+        if (StreamingFileTransfer.isSupported(this)) {
+            try {
+                assertExtensionExists(extName);
+                StreamingFileTransfer.push((AppiumDriver) this, remotePath, content, length);
+                return;
+            } catch (UnsupportedCommandException e) {
+                // fall back to the buffered transfer
+            }
+        }
+        var data = content.readNBytes(Math.toIntExact(length));
+        if (data.length != length) {
+            throw new EOFException(String.format(
+                    "The content stream has ended %s bytes before the expected length", length - data.length));
+        }
+        pushFile(remotePath, Base64.getEncoder().encode(data));
+    }
+
 }
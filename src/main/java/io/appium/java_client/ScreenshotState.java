@@ -16,10 +16,12 @@
 
 package io.appium.java_client;
 
+import io.appium.java_client.imagecomparison.LocalImagesComparator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.jspecify.annotations.Nullable;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
@@ -39,8 +41,13 @@ public class ScreenshotState {
     private static final Duration DEFAULT_INTERVAL_MS = Duration.ofMillis(500);
 
     private BufferedImage previousScreenshot;
+    @Nullable
+    private Object previousFingerprint;
     private final Supplier<BufferedImage> stateProvider;
+    @Nullable
     private final ComparesImages comparator;
+    @Nullable
+    private final LocalImagesComparator<Object> localComparator;
     /**
      * Gets the interval value in ms between similarity verification rounds in <em>verify*</em> methods.
      *
@@ -82,6 +89,7 @@ public class ScreenshotState {
      */
     public ScreenshotState(ComparesImages comparator, Supplier<BufferedImage> stateProvider) {
         this.comparator = requireNonNull(comparator);
+        this.localComparator = null;
         this.stateProvider = stateProvider;
     }
 
@@ -89,6 +97,28 @@ public class ScreenshotState {
         this(comparator, null);
     }
 
+    /**
+     * Creates the instance, which compares screenshots locally using the given comparator
+     * instead of sending them to the server.
+     * The fingerprint of the initial screenshot is calculated once in {@link #remember()},
+     * so each verification round only needs to calculate the fingerprint of the current screenshot.
+     * See {@link #ScreenshotState(ComparesImages, Supplier)} for examples of the provider function.
+     *
+     * @param comparator local image comparator,
+     *                   for example {@link io.appium.java_client.imagecomparison.StructuralSimilarityComparator}
+     * @param stateProvider lambda function, which returns a screenshot for further comparison
+     */
+    public ScreenshotState(LocalImagesComparator<?> comparator, Supplier<BufferedImage> stateProvider) {
+        this.comparator = null;
+        //noinspection unchecked
+        this.localComparator = (LocalImagesComparator<Object>) requireNonNull(comparator);
+        this.stateProvider = stateProvider;
+    }
+
+    public ScreenshotState(LocalImagesComparator<?> comparator) {
+        this(comparator, null);
+    }
+
 
     /**
      * Call this method to save the initial screenshot state.
@@ -97,8 +127,7 @@ public class ScreenshotState {
      * @return self instance for chaining
      */
     public ScreenshotState remember() {
-        this.previousScreenshot = stateProvider.get();
-        return this;
+        return remember(stateProvider.get());
     }
 
     /**
@@ -111,6 +140,7 @@ public class ScreenshotState {
      */
     public ScreenshotState remember(BufferedImage customInitialState) {
         this.previousScreenshot = requireNonNull(customInitialState);
+        this.previousFingerprint = localComparator == null ? null : fingerprint(customInitialState);
         return this;
     }
 
@@ -145,9 +175,12 @@ public class ScreenshotState {
         double score;
         do {
             final BufferedImage currentState = stateProvider.get();
-            score = getOverlapScore(ofNullable(this.previousScreenshot)
+            final BufferedImage initialState = ofNullable(this.previousScreenshot)
                     .orElseThrow(() -> new ScreenshotComparisonError("Initial screenshot state is not set. "
-                            + "Nothing to compare")), currentState);
+                            + "Nothing to compare"));
+            score = localComparator == null
+                    ? getOverlapScore(initialState, currentState)
+                    : getLocalSimilarity(requireNonNull(previousFingerprint), fingerprint(currentState));
             if (checkerFunc.apply(score)) {
                 return this;
             }
@@ -196,7 +229,9 @@ public class ScreenshotState {
     /**
      * Compares two valid java bitmaps and calculates similarity score between them.
      * Both images are expected to be of the same size/resolution. The method
-     * implicitly invokes {@link ComparesImages#getImagesSimilarity(byte[], byte[])}.
+     * implicitly invokes {@link ComparesImages#getImagesSimilarity(byte[], byte[])}
+     * or {@link LocalImagesComparator#getSimilarity(Object, Object)} if the instance
+     * has been created with a local comparator.
      *
      * @param refImage   reference image
      * @param tplImage   template
@@ -205,11 +240,14 @@ public class ScreenshotState {
      *                                   different resolution
      */
     public double getOverlapScore(BufferedImage refImage, BufferedImage tplImage) {
+        if (localComparator != null) {
+            return getLocalSimilarity(fingerprint(refImage), fingerprint(tplImage));
+        }
         try (ByteArrayOutputStream img1 = new ByteArrayOutputStream();
              ByteArrayOutputStream img2 = new ByteArrayOutputStream()) {
             ImageIO.write(refImage, "png", img1);
             ImageIO.write(tplImage, "png", img2);
-            return comparator
+            return requireNonNull(comparator)
                     .getImagesSimilarity(Base64.getEncoder().encode(img1.toByteArray()),
                             Base64.getEncoder().encode(img2.toByteArray()))
                     .getScore();
@@ -217,4 +255,16 @@ public class ScreenshotState {
             throw new ScreenshotComparisonError(e);
         }
     }
+
+    private Object fingerprint(BufferedImage image) {
+        return requireNonNull(localComparator).fingerprint(image);
+    }
+
+    private double getLocalSimilarity(Object reference, Object actual) {
+        try {
+            return requireNonNull(localComparator).getSimilarity(reference, actual);
+        } catch (IllegalArgumentException e) {
+            throw new ScreenshotComparisonError(e);
+        }
+    }
 }
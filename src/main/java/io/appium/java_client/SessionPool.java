@@ -0,0 +1,380 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client;
+
+import io.appium.java_client.remote.options.BaseOptions;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.Closeable;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static io.appium.java_client.remote.options.SupportsAutomationNameOption.AUTOMATION_NAME_OPTION;
+import static java.util.Objects.requireNonNull;
+import static org.openqa.selenium.remote.CapabilityType.PLATFORM_NAME;
+
+/**
+ * Keeps running driver sessions for reuse, since the creation of a new session
+ * may take tens of seconds on real devices. Sessions are grouped by their normalized capabilities,
+ * so a session is only reused for the same set of requested capabilities.
+ * Released sessions are not terminated, but the application under test is reset
+ * according to the configured {@link ResetStrategy}. Each acquisition returns a new driver instance,
+ * which is attached to the pooled session via its remote session address,
+ * so no client-side state is shared between different users of the same session.
+ * Acquired drivers must be returned to the pool using {@link #release(AppiumDriver)}
+ * or {@link #discard(AppiumDriver)} instead of calling {@code quit()} on them.
+ * Idle sessions are terminated once they have not been used for longer than
+ * the configured max idle time, which should be lower than the session's new command timeout.
+ *
+ * @param <T> the type of pooled drivers
+ */
+public class SessionPool<T extends AppiumDriver> implements Closeable {
+    private static final String APP_PACKAGE_OPTION = "appPackage";
+    private static final String BUNDLE_ID_OPTION = "bundleId";
+
+    private final Function<Capabilities, T> sessionFactory;
+    private final BiFunction<URL, Capabilities, T> sessionAttacher;
+    private final Map<Map<String, Object>, Deque<PooledSession>> idleSessions = new HashMap<>();
+    private final Map<AppiumDriver, Lease> leases = new IdentityHashMap<>();
+    private ResetStrategy resetStrategy = ResetStrategy.RESTART_APP;
+    private int maxIdleSessionsPerKey = 1;
+    private Duration maxIdleTime = Duration.ofSeconds(50);
+    private boolean isClosed;
+
+    /**
+     * Creates a new pool.
+     *
+     * @param sessionFactory  creates a new session for the given capabilities,
+     *                        e.g. {@code caps -> new AndroidDriver(serverUrl, caps)}
+     * @param sessionAttacher creates a driver instance for the running session with the given address
+     *                        (including the /session/id suffix) and requested capabilities,
+     *                        e.g. {@code (address, caps) -> new AndroidDriver(address, "UiAutomator2")}
+     */
+    public SessionPool(Function<Capabilities, T> sessionFactory, BiFunction<URL, Capabilities, T> sessionAttacher) {
+        this.sessionFactory = requireNonNull(sessionFactory);
+        this.sessionAttacher = requireNonNull(sessionAttacher);
+    }
+
+    /**
+     * Creates a new pool of {@link AppiumDriver} instances, which are attached
+     * to pooled sessions via {@link AppiumDriver#AppiumDriver(URL, String, String)}.
+     *
+     * @param sessionFactory creates a new session for the given capabilities
+     * @return the pool instance
+     */
+    public static SessionPool<AppiumDriver> create(Function<Capabilities, AppiumDriver> sessionFactory) {
+        return new SessionPool<>(sessionFactory, (address, capabilities) -> {
+            var options = new BaseOptions<>(capabilities);
+            return new AppiumDriver(
+                    address,
+                    String.valueOf(options.getCapability(PLATFORM_NAME)),
+                    String.valueOf(options.getCapability(AUTOMATION_NAME_OPTION))
+            );
+        });
+    }
+
+    /**
+     * Sets the way the application under test is reset when a session is returned to the pool.
+     *
+     * @param resetStrategy the reset strategy. {@link ResetStrategy#RESTART_APP} by default.
+     * @return self instance for chaining
+     */
+    public SessionPool<T> withResetStrategy(ResetStrategy resetStrategy) {
+        this.resetStrategy = requireNonNull(resetStrategy);
+        return this;
+    }
+
+    /**
+     * Sets the maximum count of idle sessions, which are kept for the same capabilities.
+     * Sessions released above this limit are terminated.
+     *
+     * @param maxIdleSessionsPerKey the maximum count of idle sessions. 1 by default.
+     * @return self instance for chaining
+     */
+    public SessionPool<T> withMaxIdleSessionsPerKey(int maxIdleSessionsPerKey) {
+        checkArgument(maxIdleSessionsPerKey >= 0, "The max count of idle sessions must not be negative");
+        this.maxIdleSessionsPerKey = maxIdleSessionsPerKey;
+        return this;
+    }
+
+    /**
+     * Sets the time after which idle sessions are not reused anymore.
+     * The server terminates sessions without commands for longer than
+     * their new command timeout (60 seconds by default), so this value must be lower than it.
+     *
+     * @param maxIdleTime the max idle time. 50 seconds by default.
+     * @return self instance for chaining
+     */
+    public SessionPool<T> withMaxIdleTime(Duration maxIdleTime) {
+        checkArgument(!maxIdleTime.isNegative(), "The max idle time must not be negative");
+        this.maxIdleTime = maxIdleTime;
+        return this;
+    }
+
+    /**
+     * Returns a driver for the given capabilities. An idle session created for the same capabilities
+     * is reused if there is one, otherwise a new session is created.
+     *
+     * @param capabilities the capabilities of the session
+     * @return the driver instance, which must be returned to the pool after usage
+     */
+    public T acquire(Capabilities capabilities) {
+        var key = toKey(capabilities);
+        var expiredSessions = new ArrayList<PooledSession>();
+        PooledSession idleSession = null;
+        synchronized (this) {
+            if (isClosed) {
+                throw new IllegalStateException("The session pool is closed");
+            }
+            var sessions = idleSessions.getOrDefault(key, new ArrayDeque<>());
+            while (idleSession == null && !sessions.isEmpty()) {
+                var session = sessions.pollFirst();
+                if (session.isExpired(maxIdleTime)) {
+                    expiredSessions.add(session);
+                } else {
+                    idleSession = session;
+                }
+            }
+        }
+        expiredSessions.forEach(this::terminate);
+
+        T driver = idleSession == null ? null : attach(idleSession);
+        if (driver == null) {
+            driver = sessionFactory.apply(capabilities);
+        }
+        synchronized (this) {
+            leases.put(driver, new Lease(key, capabilities));
+        }
+        return driver;
+    }
+
+    /**
+     * Returns the driver acquired from this pool. The application under test is reset and the session
+     * is kept for reuse. The session is terminated if the reset fails or the pool is full.
+     * The driver instance itself must not be used after it has been released.
+     *
+     * @param driver the driver returned by {@link #acquire(Capabilities)}
+     */
+    public void release(AppiumDriver driver) {
+        var lease = removeLease(driver);
+        if (!reset(driver, lease.capabilities)) {
+            quitQuietly(driver);
+            return;
+        }
+        var session = new PooledSession(toSessionAddress(driver), lease.capabilities);
+        synchronized (this) {
+            var sessions = idleSessions.computeIfAbsent(lease.key, k -> new ArrayDeque<>());
+            if (!isClosed && sessions.size() < maxIdleSessionsPerKey) {
+                sessions.addFirst(session);
+                return;
+            }
+        }
+        quitQuietly(driver);
+    }
+
+    /**
+     * Terminates the session of the driver acquired from this pool, for example,
+     * if its state is known to be broken.
+     *
+     * @param driver the driver returned by {@link #acquire(Capabilities)}
+     */
+    public void discard(AppiumDriver driver) {
+        removeLease(driver);
+        quitQuietly(driver);
+    }
+
+    /**
+     * Returns the count of idle sessions.
+     *
+     * @return the count of sessions available for reuse
+     */
+    public synchronized int getIdleCount() {
+        return idleSessions.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    /**
+     * Terminates all idle sessions. Sessions, which are currently acquired,
+     * are terminated as soon as they are released.
+     */
+    @Override
+    public void close() {
+        var sessions = new ArrayList<PooledSession>();
+        synchronized (this) {
+            isClosed = true;
+            idleSessions.values().forEach(sessions::addAll);
+            idleSessions.clear();
+        }
+        sessions.forEach(this::terminate);
+    }
+
+    private synchronized Lease removeLease(AppiumDriver driver) {
+        var lease = leases.remove(driver);
+        checkArgument(lease != null, "The driver has not been acquired from this pool");
+        return lease;
+    }
+
+    private boolean reset(AppiumDriver driver, Capabilities capabilities) {
+        if (resetStrategy == ResetStrategy.NONE) {
+            return true;
+        }
+        var appId = getAppId(capabilities);
+        if (appId.isEmpty()) {
+            return false;
+        }
+        try {
+            resetStrategy.reset(driver, appId.get());
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    @Nullable
+    private T attach(PooledSession session) {
+        try {
+            return sessionAttacher.apply(session.address, session.capabilities);
+        } catch (RuntimeException e) {
+            // the session cannot be reused, but it still occupies the device until it is terminated
+            terminate(session);
+            return null;
+        }
+    }
+
+    private void terminate(PooledSession session) {
+        try {
+            sessionAttacher.apply(session.address, session.capabilities).quit();
+        } catch (RuntimeException e) {
+            // the session might be already terminated by the server
+        }
+    }
+
+    private static void quitQuietly(AppiumDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // the session might be already terminated by the server
+        }
+    }
+
+    private static Optional<String> getAppId(Capabilities capabilities) {
+        var options = new BaseOptions<>(capabilities);
+        return Optional.ofNullable(options.getCapability(APP_PACKAGE_OPTION))
+                .or(() -> Optional.ofNullable(options.getCapability(BUNDLE_ID_OPTION)))
+                .map(String::valueOf);
+    }
+
+    private static Map<String, Object> toKey(Capabilities capabilities) {
+        // capability names are normalized to their W3C form, nested maps and lists are compared by value
+        return new HashMap<>(new BaseOptions<>(capabilities).asMap());
+    }
+
+    private static URL toSessionAddress(AppiumDriver driver) {
+        var serverUrl = driver.getRemoteAddress().toString().replaceAll("/+$", "");
+        try {
+            return new URL(String.format("%s/session/%s", serverUrl, requireNonNull(driver.getSessionId())));
+        } catch (MalformedURLException e) {
+            throw new WebDriverException(e);
+        }
+    }
+
+    /**
+     * Defines how the application under test is reset when a session is released.
+     * The application identifier is taken from the appPackage or bundleId capability.
+     * Sessions without any of these capabilities are terminated on release
+     * unless {@link #NONE} is used.
+     */
+    public enum ResetStrategy {
+        /**
+         * Keeps the application state as is.
+         */
+        NONE {
+            @Override
+            void reset(AppiumDriver driver, String appId) {
+                // nothing to do
+            }
+        },
+        /**
+         * Terminates and activates the application again.
+         */
+        RESTART_APP {
+            @Override
+            void reset(AppiumDriver driver, String appId) {
+                if (driver instanceof InteractsWithApps) {
+                    ((InteractsWithApps) driver).terminateApp(appId);
+                    ((InteractsWithApps) driver).activateApp(appId);
+                } else {
+                    CommandExecutionHelper.executeScript(driver, "mobile: terminateApp", toArgs(appId));
+                    CommandExecutionHelper.executeScript(driver, "mobile: activateApp", toArgs(appId));
+                }
+            }
+        },
+        /**
+         * Terminates the application, deletes its data (`mobile: clearApp`) and activates it again.
+         */
+        CLEAR_APP {
+            @Override
+            void reset(AppiumDriver driver, String appId) {
+                CommandExecutionHelper.executeScript(driver, "mobile: clearApp", toArgs(appId));
+                RESTART_APP.reset(driver, appId);
+            }
+        };
+
+        abstract void reset(AppiumDriver driver, String appId);
+
+        private static Map<String, Object> toArgs(String appId) {
+            return Map.of("appId", appId, "bundleId", appId);
+        }
+    }
+
+    private static final class Lease {
+        private final Map<String, Object> key;
+        private final Capabilities capabilities;
+
+        private Lease(Map<String, Object> key, Capabilities capabilities) {
+            this.key = key;
+            this.capabilities = capabilities;
+        }
+    }
+
+    private static final class PooledSession {
+        private final URL address;
+        private final Capabilities capabilities;
+        private final long releasedAt = System.nanoTime();
+
+        private PooledSession(URL address, Capabilities capabilities) {
+            this.address = address;
+            this.capabilities = capabilities;
+        }
+
+        private boolean isExpired(Duration maxIdleTime) {
+            return System.nanoTime() - releasedAt > maxIdleTime.toNanos();
+        }
+    }
+}
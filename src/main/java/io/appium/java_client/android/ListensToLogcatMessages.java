@@ -18,7 +18,9 @@ package io.appium.java_client.android;
 
 import io.appium.java_client.CommandExecutionHelper;
 import io.appium.java_client.ExecutesMethod;
+import io.appium.java_client.ws.MessageBuffer;
 import io.appium.java_client.ws.StringWebSocketClient;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.SessionId;
@@ -79,6 +81,20 @@ public interface ListensToLogcatMessages extends ExecutesMethod {
         getLogcatClient().addMessageHandler(handler);
     }
 
+    /**
+     * Makes logcat messages go through the given bounded buffer, so message listeners
+     * are invoked in batches by a dedicated thread rather than by the web socket thread.
+     * Use {@link io.appium.java_client.ws.LogMessageFilters#logcat} to drop unneeded messages
+     * before they are buffered.
+     * The buffer is closed when it is replaced or when all listeners are removed,
+     * for example by {@link #stopLogcatBroadcast()}.
+     *
+     * @param buffer the buffer to use or null to invoke listeners directly
+     */
+    default void setLogcatMessageBuffer(@Nullable MessageBuffer buffer) {
+        getLogcatClient().setMessageBuffer(buffer);
+    }
+
     /**
      * Adds a new log broadcasting errors handler.
      * Several handlers might be assigned to a single server.
@@ -118,7 +134,7 @@ public interface ListensToLogcatMessages extends ExecutesMethod {
     }
 
     /**
-     * Removes all existing logcat handlers.
+     * Removes all existing logcat handlers and closes the message buffer (if any).
      */
     default void removeAllLogcatListeners() {
         getLogcatClient().removeAllHandlers();
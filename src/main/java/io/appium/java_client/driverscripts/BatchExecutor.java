@@ -0,0 +1,204 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.driverscripts;
+
+import io.appium.java_client.ExecutesDriverScript;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Queues multiple commands and sends them to the server in a single
+ * round trip using the Execute Driver Script API
+ * (see http://appium.io/docs/en/commands/session/execute-driver).
+ * This may significantly speed up read-heavy scenarios in distributed
+ * client-server environments with high latency.
+ * Each queued command gets its own future, which is completed after
+ * {@link #flush()} is called. A failure of one command does not prevent
+ * other commands in the same batch from being executed.
+ * The instance is not thread-safe.
+ */
+public class BatchExecutor {
+    private static final Json JSON = new Json();
+
+    private final ExecutesDriverScript driver;
+    private final List<Entry> entries = new ArrayList<>();
+    @Nullable
+    private Long timeoutMs;
+
+    public BatchExecutor(ExecutesDriverScript driver) {
+        this.driver = requireNonNull(driver);
+    }
+
+    /**
+     * Limits the duration of the whole batch execution on the server side.
+     *
+     * @param timeoutMs the timeout in milliseconds
+     * @return self instance for chaining
+     */
+    public BatchExecutor withTimeout(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+        return this;
+    }
+
+    /**
+     * Queues an extension script (for example `mobile: shell`) without arguments.
+     *
+     * @param scriptName the name of the extension script
+     * @param <T> the expected type of the script result
+     * @return the future, which is completed with the script result after the batch is flushed
+     */
+    public <T> CompletableFuture<T> executeScript(String scriptName) {
+        return executeScript(scriptName, null);
+    }
+
+    /**
+     * Queues an extension script (for example `mobile: shell`). Arguments are prepared
+     * the same way as {@link io.appium.java_client.CommandExecutionHelper#executeScript} does it.
+     *
+     * @param scriptName the name of the extension script
+     * @param args the extension script arguments (if present)
+     * @param <T> the expected type of the script result
+     * @return the future, which is completed with the script result after the batch is flushed
+     */
+    public <T> CompletableFuture<T> executeScript(String scriptName, @Nullable Map<String, ?> args) {
+        var call = new StringBuilder("driver.execute(").append(JSON.toJson(requireNonNull(scriptName)));
+        if (args != null && !args.isEmpty()) {
+            call.append(", ").append(JSON.toJson(args));
+        }
+        return enqueue(call.append(")").toString());
+    }
+
+    /**
+     * Queues an arbitrary webdriverio expression, which is evaluated against the
+     * `driver` instance on the server side, for example
+     * `driver.getElementAttribute("elementId", "text")`. This allows batching of
+     * any commands supported by webdriverio, not only extension scripts.
+     *
+     * @param expression a valid webdriverio expression
+     * @param <T> the expected type of the expression result
+     * @return the future, which is completed with the expression result after the batch is flushed
+     */
+    public <T> CompletableFuture<T> execute(String expression) {
+        return enqueue(requireNonNull(expression));
+    }
+
+    private <T> CompletableFuture<T> enqueue(String expression) {
+        var future = new CompletableFuture<T>();
+        //noinspection unchecked
+        entries.add(new Entry(expression, (CompletableFuture<Object>) future));
+        return future;
+    }
+
+    /**
+     * Returns the count of queued commands.
+     *
+     * @return the count of commands, which will be sent by the next {@link #flush()} call
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Sends all queued commands in a single request and completes their futures.
+     * The queue is empty after this call, so the instance could be reused for the next batch.
+     *
+     * @return the script value containing logs printed while the batch was executed,
+     *         or null if there was nothing to send
+     * @throws WebDriverException if the batch itself could not be executed. All pending
+     *         futures are completed exceptionally in such case.
+     */
+    @Nullable
+    public ScriptValue flush() {
+        if (entries.isEmpty()) {
+            return null;
+        }
+        var batch = new ArrayList<>(entries);
+        entries.clear();
+
+        var options = new ScriptOptions().withScriptType(ScriptType.WEBDRIVERIO);
+        if (timeoutMs != null) {
+            options.withTimeout(timeoutMs);
+        }
+        ScriptValue scriptValue;
+        List<?> results;
+        try {
+            scriptValue = driver.executeDriverScript(buildScript(batch), options);
+            results = scriptValue.getResult() instanceof List
+                    ? (List<?>) scriptValue.getResult()
+                    : Collections.emptyList();
+            if (results.size() != batch.size()) {
+                throw new WebDriverException(String.format(
+                        "The batch of %s commands returned an unexpected result: %s",
+                        batch.size(), scriptValue.getResult()));
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(entry -> entry.future.completeExceptionally(e));
+            throw e;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            complete(batch.get(i), results.get(i));
+        }
+        return scriptValue;
+    }
+
+    private static void complete(Entry entry, @Nullable Object result) {
+        if (!(result instanceof Map)) {
+            entry.future.completeExceptionally(new WebDriverException(String.format(
+                    "Unexpected result of '%s': %s", entry.expression, result)));
+            return;
+        }
+        var resultMap = (Map<?, ?>) result;
+        if (resultMap.containsKey("error")) {
+            entry.future.completeExceptionally(new WebDriverException(String.format(
+                    "'%s' has failed: %s", entry.expression, resultMap.get("error"))));
+        } else {
+            entry.future.complete(resultMap.get("value"));
+        }
+    }
+
+    static String buildScript(List<Entry> batch) {
+        var script = new StringBuilder("const results = [];\n");
+        for (Entry entry : batch) {
+            script.append("try {\n")
+                    .append("  results.push({value: await ").append(entry.expression).append("});\n")
+                    .append("} catch (e) {\n")
+                    .append("  results.push({error: String((e && e.message) || e)});\n")
+                    .append("}\n");
+        }
+        return script.append("return results;").toString();
+    }
+
+    static final class Entry {
+        private final String expression;
+        private final CompletableFuture<Object> future;
+
+        Entry(String expression, CompletableFuture<Object> future) {
+            this.expression = expression;
+            this.future = future;
+        }
+    }
+}
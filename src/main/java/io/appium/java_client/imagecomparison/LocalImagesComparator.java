@@ -0,0 +1,49 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.imagecomparison;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Calculates similarity of images locally, without sending them to the server.
+ * Each image is first reduced to a compact fingerprint, so the fingerprint of a reference
+ * image could be calculated only once and then compared to fingerprints of multiple other images.
+ *
+ * @param <T> the type of image fingerprints
+ */
+public interface LocalImagesComparator<T> {
+
+    /**
+     * Calculates the fingerprint of the given image.
+     *
+     * @param image the image to calculate the fingerprint for
+     * @return the image fingerprint
+     */
+    T fingerprint(BufferedImage image);
+
+    /**
+     * Calculates the similarity score of two images represented by their fingerprints.
+     *
+     * @param reference the fingerprint of the reference image
+     * @param actual    the fingerprint of the image to compare with the reference one
+     * @return The similarity score as a float number in range [0.0, 1.0].
+     *     1.0 is the highest score (means both images are totally equal).
+     * @throws IllegalArgumentException if the fingerprints cannot be compared, for example,
+     *     if they have been calculated for images of different resolution
+     */
+    double getSimilarity(T reference, T actual);
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.imagecomparison;
+
+import lombok.Getter;
+
+import java.awt.image.BufferedImage;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Compares images using the structural similarity index (SSIM) of their downscaled grayscale copies.
+ * Images are reduced to thumbnails, whose pixels are luminance averages of the corresponding
+ * source image areas, and SSIM values are calculated for non-overlapping thumbnail windows.
+ * By default the index is calculated as the mean of window values. The {@link Aggregation#MIN}
+ * mode reports the lowest window value instead, so localized changes, like a toggled switch,
+ * are not diluted by unchanged screen areas. Negative index values are reported as zero.
+ * Downscaling makes the comparison cheap and tolerant to compression noise, although changes
+ * that are much smaller than a single thumbnail pixel area might not be detected.
+ * Increase the thumbnail size in order to make the comparison more sensitive.
+ */
+public class StructuralSimilarityComparator
+        implements LocalImagesComparator<StructuralSimilarityComparator.Fingerprint> {
+    public static final int DEFAULT_THUMBNAIL_SIZE = 64;
+    private static final int WINDOW_SIZE = 8;
+    private static final double C1 = Math.pow(0.01 * 255, 2);
+    private static final double C2 = Math.pow(0.03 * 255, 2);
+
+    private final int thumbnailSize;
+    private final Aggregation aggregation;
+
+    /**
+     * The way SSIM values of separate thumbnail windows are combined into the similarity score.
+     */
+    public enum Aggregation {
+        /**
+         * The mean of window values. Changes are weighted by the area they occupy.
+         */
+        MEAN,
+        /**
+         * The lowest window value. Makes the score sensitive to small localized changes.
+         */
+        MIN
+    }
+
+    public StructuralSimilarityComparator() {
+        this(DEFAULT_THUMBNAIL_SIZE);
+    }
+
+    /**
+     * Creates a comparator with the custom size of thumbnails.
+     *
+     * @param thumbnailSize the maximum width and height of image thumbnails in pixels
+     */
+    public StructuralSimilarityComparator(int thumbnailSize) {
+        this(thumbnailSize, Aggregation.MEAN);
+    }
+
+    /**
+     * Creates a comparator with the custom size of thumbnails and windows aggregation mode.
+     *
+     * @param thumbnailSize the maximum width and height of image thumbnails in pixels
+     * @param aggregation   the way window SSIM values are combined into the similarity score
+     */
+    public StructuralSimilarityComparator(int thumbnailSize, Aggregation aggregation) {
+        if (thumbnailSize < 1) {
+            throw new IllegalArgumentException("The thumbnail size must be a positive number");
+        }
+        this.thumbnailSize = thumbnailSize;
+        this.aggregation = requireNonNull(aggregation);
+    }
+
+    @Override
+    public Fingerprint fingerprint(BufferedImage image) {
+        var width = image.getWidth();
+        var height = image.getHeight();
+        var thumbnailWidth = Math.min(thumbnailSize, width);
+        var thumbnailHeight = Math.min(thumbnailSize, height);
+        var sums = new double[thumbnailWidth * thumbnailHeight];
+        var counts = new int[sums.length];
+        var row = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            var rowOffset = (int) ((long) y * thumbnailHeight / height) * thumbnailWidth;
+            for (int x = 0; x < width; x++) {
+                var rgb = row[x];
+                var index = rowOffset + (int) ((long) x * thumbnailWidth / width);
+                sums[index] += 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+                counts[index]++;
+            }
+        }
+        var luminance = new double[sums.length];
+        for (int i = 0; i < sums.length; i++) {
+            luminance[i] = sums[i] / counts[i];
+        }
+        return new Fingerprint(width, height, thumbnailWidth, thumbnailHeight, luminance);
+    }
+
+    @Override
+    public double getSimilarity(Fingerprint reference, Fingerprint actual) {
+        if (reference.getWidth() != actual.getWidth() || reference.getHeight() != actual.getHeight()
+                || reference.thumbnailWidth != actual.thumbnailWidth) {
+            throw new IllegalArgumentException(String.format(
+                    "Images of different resolution cannot be compared: %sx%s vs %sx%s",
+                    reference.getWidth(), reference.getHeight(), actual.getWidth(), actual.getHeight()));
+        }
+        var width = reference.thumbnailWidth;
+        var height = reference.thumbnailHeight;
+        double ssimSum = 0;
+        double minSsim = 1;
+        int windowsCount = 0;
+        for (int top = 0; top < height; top += WINDOW_SIZE) {
+            for (int left = 0; left < width; left += WINDOW_SIZE) {
+                var ssim = calcWindowSsim(reference.luminance, actual.luminance, width,
+                        left, top, Math.min(left + WINDOW_SIZE, width), Math.min(top + WINDOW_SIZE, height));
+                ssimSum += ssim;
+                minSsim = Math.min(minSsim, ssim);
+                windowsCount++;
+            }
+        }
+        var result = aggregation == Aggregation.MIN ? minSsim : ssimSum / windowsCount;
+        return Math.max(0, Math.min(1, result));
+    }
+
+    private static double calcWindowSsim(double[] ref, double[] act, int stride,
+                                         int left, int top, int right, int bottom) {
+        double refSum = 0;
+        double actSum = 0;
+        var count = (right - left) * (bottom - top);
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x++) {
+                refSum += ref[y * stride + x];
+                actSum += act[y * stride + x];
+            }
+        }
+        var refMean = refSum / count;
+        var actMean = actSum / count;
+        double refVariance = 0;
+        double actVariance = 0;
+        double covariance = 0;
+        for (int y = top; y < bottom; y++) {
+            for (int x = left; x < right; x++) {
+                var refDelta = ref[y * stride + x] - refMean;
+                var actDelta = act[y * stride + x] - actMean;
+                refVariance += refDelta * refDelta;
+                actVariance += actDelta * actDelta;
+                covariance += refDelta * actDelta;
+            }
+        }
+        refVariance /= count;
+        actVariance /= count;
+        covariance /= count;
+        return (2 * refMean * actMean + C1) * (2 * covariance + C2)
+                / ((refMean * refMean + actMean * actMean + C1) * (refVariance + actVariance + C2));
+    }
+
+    /**
+     * Grayscale thumbnail of the source image.
+     */
+    public static final class Fingerprint {
+        @Getter private final int width;
+        @Getter private final int height;
+        private final int thumbnailWidth;
+        private final int thumbnailHeight;
+        private final double[] luminance;
+
+        private Fingerprint(int width, int height, int thumbnailWidth, int thumbnailHeight, double[] luminance) {
+            this.width = width;
+            this.height = height;
+            this.thumbnailWidth = thumbnailWidth;
+            this.thumbnailHeight = thumbnailHeight;
+            this.luminance = luminance;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.internal;
+
+import org.jspecify.annotations.Nullable;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Creates threads for background tasks of the client.
+ * The library targets Java 11, so virtual threads (Java 21+) are looked up reflectively.
+ * They are only used if the {@link #USE_VIRTUAL_THREADS} system property
+ * or environment variable is set to {@code true} and the current runtime supports them.
+ * Platform daemon threads are used otherwise.
+ */
+public class VirtualThreads {
+    public static final String USE_VIRTUAL_THREADS = "APPIUM_USE_VIRTUAL_THREADS";
+
+    @Nullable
+    private static final MethodHandle OF_VIRTUAL = lookupOfVirtual();
+
+    private VirtualThreads() {
+    }
+
+    @Nullable
+    private static MethodHandle lookupOfVirtual() {
+        try {
+            var builderClass = Class.forName("java.lang.Thread$Builder");
+            var ofVirtualClass = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            var lookup = MethodHandles.publicLookup();
+            var ofVirtual = lookup.findStatic(Thread.class, "ofVirtual", MethodType.methodType(ofVirtualClass));
+            var name = lookup.findVirtual(ofVirtualClass, "name",
+                    MethodType.methodType(ofVirtualClass, String.class, long.class));
+            var factory = lookup.findVirtual(builderClass, "factory", MethodType.methodType(ThreadFactory.class));
+            // (String prefix, long start) -> Thread.ofVirtual().name(prefix, start).factory()
+            var named = MethodHandles.collectArguments(name, 0, ofVirtual);
+            return MethodHandles.filterReturnValue(named, factory.asType(
+                    MethodType.methodType(ThreadFactory.class, ofVirtualClass)));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether virtual threads are requested and supported by the current runtime.
+     *
+     * @return true if background tasks are executed by virtual threads
+     */
+    public static boolean isEnabled() {
+        if (OF_VIRTUAL == null) {
+            return false;
+        }
+        String value = System.getProperty(USE_VIRTUAL_THREADS);
+        if (isNullOrEmpty(value)) {
+            value = System.getenv(USE_VIRTUAL_THREADS);
+        }
+        return Boolean.parseBoolean(value);
+    }
+
+    /**
+     * Creates a thread factory for background tasks.
+     *
+     * @param namePrefix the prefix of created thread names
+     * @return a factory creating virtual threads if {@link #isEnabled()} or platform daemon threads otherwise
+     */
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        if (isEnabled()) {
+            try {
+                //noinspection ConstantConditions
+                return (ThreadFactory) OF_VIRTUAL.invoke(namePrefix + "-", 0L);
+            } catch (Throwable e) {
+                // fall back to platform threads
+            }
+        }
+        var counter = new AtomicLong();
+        return runnable -> {
+            var thread = new Thread(runnable, namePrefix + "-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.internal.jfr;
+
+import io.appium.java_client.remote.CommandTiming;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight recorder event for a command executed by {@link io.appium.java_client.remote.AppiumCommandExecutor}.
+ * The event is disabled by default. It could be enabled by a custom recording configuration,
+ * e.g. {@code jfr configure +io.appium.Command#enabled=true}.
+ */
+@Name("io.appium.Command")
+@Label("Appium Command")
+@Description("Command sent to the Appium server")
+@Category("Appium")
+@Enabled(false)
+@StackTrace(false)
+public class CommandEvent extends Event implements FlightRecorderEvents.CommandSpan {
+    @Label("Command")
+    String command;
+
+    @Label("Session Id")
+    String sessionId;
+
+    @Label("Successful")
+    boolean successful;
+
+    @Label("Error")
+    String error;
+
+    @Label("Request Size")
+    @Description("Size of the request body or -1 if unknown")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Size")
+    @Description("Size of the response body or -1 if unknown")
+    @DataAmount
+    long responseBytes;
+
+    @Override
+    public void complete(CommandTiming timing) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        command = timing.getCommandName();
+        sessionId = timing.getCommand().getSessionId() == null
+                ? null
+                : timing.getCommand().getSessionId().toString();
+        successful = timing.isSuccessful();
+        error = timing.getError() == null ? null : timing.getError().getClass().getName();
+        requestBytes = timing.getRequestBytes();
+        responseBytes = timing.getResponseBytes();
+        commit();
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.internal.jfr;
+
+import io.appium.java_client.remote.CommandTiming;
+import org.jspecify.annotations.Nullable;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.net.URL;
+
+/**
+ * Creates flight recorder events of the client.
+ * Callers only see the interfaces declared here and never link {@code jdk.jfr} classes directly,
+ * so no-op events are returned if the {@code jdk.jfr} module is absent in the current runtime
+ * (for example, in a custom runtime image). The availability is only checked once.
+ */
+public final class FlightRecorderEvents {
+    private static final boolean IS_AVAILABLE = isFlightRecorderAvailable();
+
+    private FlightRecorderEvents() {
+    }
+
+    /**
+     * Timed span of a command executed by {@link io.appium.java_client.remote.AppiumCommandExecutor}.
+     */
+    public interface CommandSpan {
+        /**
+         * Checks whether the event is going to be recorded, so the command must be timed.
+         *
+         * @return true if the event is enabled
+         */
+        boolean isEnabled();
+
+        /**
+         * Ends the span and commits the event if it is enabled and passes the configured threshold.
+         *
+         * @param timing the timing details of the finished command
+         */
+        void complete(CommandTiming timing);
+    }
+
+    /**
+     * Timed span of starting or stopping a local Appium server.
+     */
+    public interface LocalServiceSpan {
+        /**
+         * Ends the span and commits the event if it is enabled and passes the configured threshold.
+         *
+         * @param action       either start or stop
+         * @param url          the server URL
+         * @param isSuccessful whether the action has succeeded
+         */
+        void complete(String action, URL url, boolean isSuccessful);
+    }
+
+    /**
+     * Timed span of method call listener callbacks of a proxy instance.
+     */
+    public interface ProxyListenersSpan {
+        /**
+         * Ends the span and commits the event if it is enabled and passes the configured threshold.
+         *
+         * @param self     the proxy instance
+         * @param method   the called method
+         * @param callback the name of the listeners callback
+         */
+        void complete(Object self, Method method, String callback);
+    }
+
+    /**
+     * Timed span of a file upload to the server storage.
+     */
+    public interface StorageTransferSpan {
+        /**
+         * Ends the span and commits the event if it is enabled and passes the configured threshold.
+         *
+         * @param name         the remote file name
+         * @param file         the uploaded file
+         * @param isSuccessful whether the upload has succeeded
+         */
+        void complete(String name, File file, boolean isSuccessful);
+    }
+
+    /**
+     * Timed span of a single wait condition evaluation.
+     */
+    public interface WaitIterationSpan {
+        /**
+         * Ends the span and commits the event if it is enabled and passes the configured threshold.
+         *
+         * @param iteration      the iteration number starting from 1
+         * @param isConditionMet whether the condition has been met
+         * @param exception      the ignored exception thrown by the condition or null
+         */
+        void complete(long iteration, boolean isConditionMet, @Nullable Throwable exception);
+    }
+
+    /**
+     * Starts timing of a command.
+     *
+     * @return the started span
+     */
+    public static CommandSpan beginCommand() {
+        if (!IS_AVAILABLE) {
+            return NoOpSpan.INSTANCE;
+        }
+        var event = new CommandEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Starts timing of a local Appium server start or stop.
+     *
+     * @return the started span
+     */
+    public static LocalServiceSpan beginLocalService() {
+        if (!IS_AVAILABLE) {
+            return NoOpSpan.INSTANCE;
+        }
+        var event = new LocalServiceEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Starts timing of method call listener callbacks.
+     *
+     * @return the started span
+     */
+    public static ProxyListenersSpan beginProxyListeners() {
+        if (!IS_AVAILABLE) {
+            return NoOpSpan.INSTANCE;
+        }
+        var event = new ProxyListenersEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Starts timing of a file upload to the server storage.
+     *
+     * @return the started span
+     */
+    public static StorageTransferSpan beginStorageTransfer() {
+        if (!IS_AVAILABLE) {
+            return NoOpSpan.INSTANCE;
+        }
+        var event = new StorageTransferEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Starts timing of a wait condition evaluation.
+     *
+     * @return the started span
+     */
+    public static WaitIterationSpan beginWaitIteration() {
+        if (!IS_AVAILABLE) {
+            return NoOpSpan.INSTANCE;
+        }
+        var event = new WaitIterationEvent();
+        event.begin();
+        return event;
+    }
+
+    private static boolean isFlightRecorderAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private enum NoOpSpan
+            implements CommandSpan, LocalServiceSpan, ProxyListenersSpan, StorageTransferSpan, WaitIterationSpan {
+        INSTANCE;
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void complete(CommandTiming timing) {
+        }
+
+        @Override
+        public void complete(String action, URL url, boolean isSuccessful) {
+        }
+
+        @Override
+        public void complete(Object self, Method method, String callback) {
+        }
+
+        @Override
+        public void complete(String name, File file, boolean isSuccessful) {
+        }
+
+        @Override
+        public void complete(long iteration, boolean isConditionMet, @Nullable Throwable exception) {
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.URL;
+
+/**
+ * Flight recorder event for starting or stopping of a local Appium server
+ * (see {@link io.appium.java_client.service.local.AppiumDriverLocalService}). The event is disabled by default.
+ */
+@Name("io.appium.LocalService")
+@Label("Appium Local Service")
+@Description("Start or stop of a local Appium server process")
+@Category("Appium")
+@Enabled(false)
+@StackTrace(false)
+public class LocalServiceEvent extends Event implements FlightRecorderEvents.LocalServiceSpan {
+    @Label("Action")
+    String action;
+
+    @Label("URL")
+    String url;
+
+    @Label("Successful")
+    boolean successful;
+
+    @Override
+    public void complete(String action, URL url, boolean isSuccessful) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.action = action;
+        this.url = url.toString();
+        successful = isSuccessful;
+        commit();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.lang.reflect.Method;
+
+/**
+ * Flight recorder event for the time spent in listeners of a proxied method call
+ * (see {@link io.appium.java_client.proxy.Interceptor}). The event is disabled by default.
+ */
+@Name("io.appium.ProxyListeners")
+@Label("Appium Proxy Listeners")
+@Description("Callbacks of method call listeners of a proxy instance")
+@Category("Appium")
+@Enabled(false)
+@StackTrace(false)
+public class ProxyListenersEvent extends Event implements FlightRecorderEvents.ProxyListenersSpan {
+    @Label("Target Class")
+    String targetClass;
+
+    @Label("Method")
+    String method;
+
+    @Label("Callback")
+    String callback;
+
+    @Override
+    public void complete(Object self, Method method, String callback) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        targetClass = self.getClass().getName();
+        this.method = method.getName();
+        this.callback = callback;
+        commit();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.io.File;
+
+/**
+ * Flight recorder event for a file upload to the server storage
+ * (see {@link io.appium.java_client.plugins.storage.StorageClient}). The event is disabled by default.
+ */
+@Name("io.appium.StorageTransfer")
+@Label("Appium Storage Transfer")
+@Description("File upload to the Appium server storage")
+@Category("Appium")
+@Enabled(false)
+@StackTrace(false)
+public class StorageTransferEvent extends Event implements FlightRecorderEvents.StorageTransferSpan {
+    @Label("Name")
+    String name;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Successful")
+    boolean successful;
+
+    @Override
+    public void complete(String name, File file, boolean isSuccessful) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.name = name;
+        bytes = file.length();
+        successful = isSuccessful;
+        commit();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.internal.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Flight recorder event for a single condition evaluation of {@link io.appium.java_client.AppiumFluentWait}.
+ * The event is disabled by default.
+ */
+@Name("io.appium.WaitIteration")
+@Label("Appium Wait Iteration")
+@Description("Single evaluation of a wait condition")
+@Category("Appium")
+@Enabled(false)
+@StackTrace(false)
+public class WaitIterationEvent extends Event implements FlightRecorderEvents.WaitIterationSpan {
+    @Label("Iteration")
+    long iteration;
+
+    @Label("Condition Met")
+    boolean conditionMet;
+
+    @Label("Exception")
+    @Description("Class of the ignored exception thrown by the condition")
+    String exception;
+
+    @Override
+    public void complete(long iteration, boolean isConditionMet, @Nullable Throwable exception) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.iteration = iteration;
+        conditionMet = isConditionMet;
+        this.exception = exception == null ? null : exception.getClass().getName();
+        commit();
+    }
+}
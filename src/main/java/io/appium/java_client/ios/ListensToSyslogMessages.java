@@ -18,7 +18,9 @@ package io.appium.java_client.ios;
 
 import io.appium.java_client.CommandExecutionHelper;
 import io.appium.java_client.ExecutesMethod;
+import io.appium.java_client.ws.MessageBuffer;
 import io.appium.java_client.ws.StringWebSocketClient;
+import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.remote.HttpCommandExecutor;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.SessionId;
@@ -80,6 +82,20 @@ public interface ListensToSyslogMessages extends ExecutesMethod {
         getSyslogClient().addMessageHandler(handler);
     }
 
+    /**
+     * Makes syslog messages go through the given bounded buffer, so message listeners
+     * are invoked in batches by a dedicated thread rather than by the web socket thread.
+     * Use {@link io.appium.java_client.ws.LogMessageFilters#syslog} to drop unneeded messages
+     * before they are buffered.
+     * The buffer is closed when it is replaced or when all listeners are removed,
+     * for example by {@link #stopSyslogBroadcast()}.
+     *
+     * @param buffer the buffer to use or null to invoke listeners directly
+     */
+    default void setSyslogMessageBuffer(@Nullable MessageBuffer buffer) {
+        getSyslogClient().setMessageBuffer(buffer);
+    }
+
     /**
      * Adds a new log broadcasting errors handler.
      * Several handlers might be assigned to a single server.
@@ -119,7 +135,7 @@ public interface ListensToSyslogMessages extends ExecutesMethod {
     }
 
     /**
-     * Removes all existing syslog handlers.
+     * Removes all existing syslog handlers and closes the message buffer (if any).
      */
     default void removeAllSyslogListeners() {
         getSyslogClient().removeAllHandlers();
@@ -0,0 +1,412 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.mjpeg;
+
+import io.appium.java_client.ScreenshotState;
+import io.appium.java_client.imagecomparison.LocalImagesComparator;
+import io.appium.java_client.imagecomparison.StructuralSimilarityComparator;
+import io.appium.java_client.internal.CapabilityHelpers;
+import io.appium.java_client.internal.VirtualThreads;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriverException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Consumes the stream of device screenshots broadcasted by the MJPEG server of the driver
+ * (see the mjpegServerPort and mjpegScreenshotUrl capabilities) and tracks changes of the screen.
+ * Frames are decoded in a background thread into reusable image buffers.
+ * The latest frame could be used as a {@link ScreenshotState} provider, so screen state verifications
+ * do not need to request a PNG screenshot from the device on each round.
+ * The stream also notifies its listeners once the screen starts changing or becomes stable,
+ * which means that no changes have been detected between consecutive frames during
+ * the {@link #getStabilityDuration() stability duration}.
+ * Transitions are only detected when frames are received, so the duration should not be less
+ * than the frame interval of the MJPEG server.
+ * Listeners are called in the reader thread, so they should not block.
+ */
+@Accessors(chain = true)
+public class MjpegScreenStream implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_FRAME_SIZE = 32 * 1024 * 1024;
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+
+    /**
+     * Possible states of the screen.
+     */
+    public enum ScreenStatus {
+        CHANGED,
+        STABLE
+    }
+
+    private final URL url;
+    private final LocalImagesComparator<Object> comparator;
+    private final List<Consumer<ScreenStatus>> listeners = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstFrameLatch = new CountDownLatch(1);
+    private final Object frameLock = new Object();
+
+    /**
+     * Gets the minimum similarity score of consecutive frames, which are considered equal.
+     *
+     * @param similarityThreshold the value in range (0.0, 1.0). 0.99 by default
+     * @return current threshold value
+     */
+    @Getter(AccessLevel.PUBLIC) @Setter(AccessLevel.PUBLIC) private volatile double similarityThreshold = 0.99;
+    /**
+     * Gets the duration the screen must not change for to be considered stable.
+     *
+     * @param stabilityDuration stability duration. 200 ms by default
+     * @return current stability duration
+     */
+    @Getter(AccessLevel.PUBLIC) @Setter(AccessLevel.PUBLIC)
+    private volatile Duration stabilityDuration = Duration.ofMillis(200);
+
+    @Nullable
+    private BufferedImage latestFrame;
+    @Nullable
+    private BufferedImage workFrame;
+    @Nullable
+    private Object previousFingerprint;
+    private long lastChangeNanos;
+    @Nullable
+    private volatile ScreenStatus status;
+    @Nullable
+    private volatile Throwable failure;
+    @Nullable
+    private volatile HttpURLConnection connection;
+    @Nullable
+    private Thread readerThread;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a stream for the given MJPEG server URL, which uses
+     * {@link StructuralSimilarityComparator} in {@link StructuralSimilarityComparator.Aggregation#MIN}
+     * mode to detect screen changes, so small localized updates are not missed.
+     *
+     * @param url the URL of the MJPEG server
+     */
+    public MjpegScreenStream(URL url) {
+        this(url, new StructuralSimilarityComparator(
+                StructuralSimilarityComparator.DEFAULT_THUMBNAIL_SIZE, StructuralSimilarityComparator.Aggregation.MIN));
+    }
+
+    /**
+     * Creates a stream for the given MJPEG server URL.
+     *
+     * @param url        the URL of the MJPEG server
+     * @param comparator the comparator used to detect changes between consecutive frames
+     */
+    public MjpegScreenStream(URL url, LocalImagesComparator<?> comparator) {
+        this.url = requireNonNull(url);
+        //noinspection unchecked
+        this.comparator = (LocalImagesComparator<Object>) requireNonNull(comparator);
+    }
+
+    /**
+     * Creates a stream for the MJPEG server configured by session capabilities.
+     * The mjpegScreenshotUrl capability is used if present. Otherwise, the server is expected
+     * to be reachable at the given host and the port provided by the mjpegServerPort capability.
+     *
+     * @param capabilities session capabilities
+     * @param host         the host the MJPEG server port is forwarded to, usually 127.0.0.1
+     * @return the stream instance. Call {@link #start()} to start receiving frames.
+     * @throws IllegalArgumentException if none of the capabilities is present
+     */
+    public static MjpegScreenStream fromCapabilities(Capabilities capabilities, String host) {
+        var screenshotUrl = CapabilityHelpers.getCapability(capabilities, "mjpegScreenshotUrl", Object.class);
+        if (screenshotUrl != null) {
+            return new MjpegScreenStream(CapabilityHelpers.toUrl(screenshotUrl));
+        }
+        var port = CapabilityHelpers.toInteger(
+                CapabilityHelpers.getCapability(capabilities, "mjpegServerPort", Object.class));
+        if (port == null) {
+            throw new IllegalArgumentException(
+                    "Either mjpegScreenshotUrl or mjpegServerPort capability must be present");
+        }
+        try {
+            return new MjpegScreenStream(new URL("http", host, port, "/"));
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    /**
+     * Starts receiving frames in a background thread.
+     *
+     * @return self instance for chaining
+     */
+    public synchronized MjpegScreenStream start() {
+        if (isClosed) {
+            throw new IllegalStateException("The stream has been already closed");
+        }
+        if (readerThread == null) {
+            readerThread = VirtualThreads.newThreadFactory("appium-mjpeg-reader").newThread(this::readFrames);
+            readerThread.start();
+        }
+        return this;
+    }
+
+    /**
+     * Adds a listener, which is notified about screen state transitions.
+     *
+     * @param listener the listener to add
+     * @return self instance for chaining
+     */
+    public MjpegScreenStream addStatusListener(Consumer<ScreenStatus> listener) {
+        listeners.add(requireNonNull(listener));
+        return this;
+    }
+
+    public MjpegScreenStream removeStatusListener(Consumer<ScreenStatus> listener) {
+        listeners.remove(listener);
+        return this;
+    }
+
+    /**
+     * Gets the current screen state.
+     *
+     * @return the current state or null if it is not determined yet
+     */
+    @Nullable
+    public ScreenStatus getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns a copy of the latest received frame.
+     * The method waits for the first frame if it has not been received yet.
+     *
+     * @param timeout the maximum duration to wait for the first frame
+     * @return the copy of the latest frame
+     * @throws WebDriverException if no frames have been received within the given timeout
+     *     or the stream has failed
+     */
+    public BufferedImage getLatestFrame(Duration timeout) {
+        try {
+            if (!firstFrameLatch.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new WebDriverException(String.format(
+                        "No frames have been received from %s within %s ms", url, timeout.toMillis()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException(e);
+        }
+        synchronized (frameLock) {
+            if (latestFrame == null) {
+                throw new WebDriverException(String.format("The MJPEG stream %s has failed", url), failure);
+            }
+            return new BufferedImage(latestFrame.getColorModel(), latestFrame.copyData(null),
+                    latestFrame.isAlphaPremultiplied(), null);
+        }
+    }
+
+    /**
+     * Returns the function providing copies of the latest received frame.
+     *
+     * @return the function, which could be used as {@link ScreenshotState} state provider
+     */
+    public Supplier<BufferedImage> asScreenshotProvider() {
+        return () -> getLatestFrame(CONNECT_TIMEOUT);
+    }
+
+    /**
+     * Creates {@link ScreenshotState} instance comparing frames of this stream
+     * using the stream comparator.
+     *
+     * @return the screenshot state instance
+     */
+    public ScreenshotState newScreenshotState() {
+        return new ScreenshotState(comparator, asScreenshotProvider());
+    }
+
+    @Override
+    public synchronized void close() {
+        isClosed = true;
+        var currentConnection = connection;
+        if (currentConnection != null) {
+            currentConnection.disconnect();
+        }
+        if (readerThread != null) {
+            readerThread.interrupt();
+        }
+    }
+
+    private void readFrames() {
+        try {
+            var currentConnection = (HttpURLConnection) url.openConnection();
+            currentConnection.setConnectTimeout((int) CONNECT_TIMEOUT.toMillis());
+            connection = currentConnection;
+            if (isClosed) {
+                return;
+            }
+            try (InputStream in = currentConnection.getInputStream()) {
+                readFrames(in);
+            }
+        } catch (Throwable e) {
+            if (!isClosed) {
+                failure = e;
+            }
+        } finally {
+            var currentConnection = connection;
+            if (currentConnection != null) {
+                currentConnection.disconnect();
+            }
+            // unblock waiters if no frames have been received
+            firstFrameLatch.countDown();
+        }
+    }
+
+    /**
+     * Extracts JPEG images from the multipart stream by looking for their start and end markers,
+     * so part headers and boundaries do not need to be parsed.
+     */
+    private void readFrames(InputStream in) throws IOException {
+        var reader = ImageIO.getImageReadersByFormatName("jpeg").next();
+        try {
+            var chunk = new byte[BUFFER_SIZE];
+            var frame = new byte[BUFFER_SIZE];
+            var frameLength = -1;
+            var previousByte = -1;
+            int count;
+            while (!isClosed && (count = in.read(chunk)) != -1) {
+                for (int i = 0; i < count; i++) {
+                    var currentByte = chunk[i] & 0xFF;
+                    if (frameLength < 0) {
+                        if (previousByte == 0xFF && currentByte == 0xD8) {
+                            frame[0] = (byte) 0xFF;
+                            frame[1] = (byte) 0xD8;
+                            frameLength = 2;
+                            currentByte = -1;
+                        }
+                    } else {
+                        if (frameLength == frame.length) {
+                            if (frame.length >= MAX_FRAME_SIZE) {
+                                throw new IOException(String.format(
+                                        "The frame size exceeds the limit of %s bytes", MAX_FRAME_SIZE));
+                            }
+                            var newFrame = new byte[frame.length * 2];
+                            System.arraycopy(frame, 0, newFrame, 0, frameLength);
+                            frame = newFrame;
+                        }
+                        frame[frameLength++] = (byte) currentByte;
+                        if (previousByte == 0xFF && currentByte == 0xD9) {
+                            onFrame(reader, frame, frameLength);
+                            frameLength = -1;
+                            currentByte = -1;
+                        }
+                    }
+                    previousByte = currentByte;
+                }
+            }
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    private void onFrame(ImageReader reader, byte[] frame, int length) {
+        var image = decode(reader, frame, length);
+        if (image == null) {
+            return;
+        }
+        var fingerprint = comparator.fingerprint(image);
+        synchronized (frameLock) {
+            var previousImage = latestFrame;
+            latestFrame = image;
+            workFrame = previousImage;
+        }
+        firstFrameLatch.countDown();
+
+        var now = System.nanoTime();
+        if (previousFingerprint == null) {
+            lastChangeNanos = now;
+        } else if (isChanged(previousFingerprint, fingerprint)) {
+            lastChangeNanos = now;
+            setStatus(ScreenStatus.CHANGED);
+        } else if (now - lastChangeNanos >= stabilityDuration.toNanos()) {
+            setStatus(ScreenStatus.STABLE);
+        }
+        previousFingerprint = fingerprint;
+    }
+
+    private boolean isChanged(Object previous, Object current) {
+        try {
+            return comparator.getSimilarity(previous, current) < similarityThreshold;
+        } catch (IllegalArgumentException e) {
+            // the resolution has been changed, for example, because of the screen rotation
+            return true;
+        }
+    }
+
+    private void setStatus(ScreenStatus newStatus) {
+        if (status == newStatus) {
+            return;
+        }
+        status = newStatus;
+        listeners.forEach(listener -> listener.accept(newStatus));
+    }
+
+    @Nullable
+    private BufferedImage decode(ImageReader reader, byte[] frame, int length) {
+        BufferedImage destination;
+        synchronized (frameLock) {
+            destination = workFrame;
+        }
+        try (var imageStream = new MemoryCacheImageInputStream(new ByteArrayInputStream(frame, 0, length))) {
+            reader.setInput(imageStream, true, true);
+            var param = reader.getDefaultReadParam();
+            if (destination != null && destination.getWidth() == reader.getWidth(0)
+                    && destination.getHeight() == reader.getHeight(0)) {
+                param.setDestination(destination);
+            }
+            return reader.read(0, param);
+        } catch (IOException | IllegalArgumentException e) {
+            if (destination != null) {
+                // the frame might be incompatible with the reused buffer
+                synchronized (frameLock) {
+                    workFrame = null;
+                }
+                return decode(reader, frame, length);
+            }
+            // skip broken frames, the next one will likely be fine
+            return null;
+        }
+    }
+}
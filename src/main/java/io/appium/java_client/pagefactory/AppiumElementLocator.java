@@ -18,6 +18,8 @@ package io.appium.java_client.pagefactory;
 
 import io.appium.java_client.pagefactory.bys.ContentMappedBy;
 import io.appium.java_client.pagefactory.locator.CacheableLocator;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import io.appium.java_client.remote.ElementLookupCache;
 import org.openqa.selenium.By;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
@@ -25,6 +27,7 @@ import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.support.ui.FluentWait;
 
 import java.lang.ref.WeakReference;
@@ -39,6 +42,7 @@ import static io.appium.java_client.pagefactory.ThrowableUtil.extractReadableExc
 import static io.appium.java_client.pagefactory.ThrowableUtil.isInvalidSelectorRootCause;
 import static io.appium.java_client.pagefactory.ThrowableUtil.isStaleElementReferenceException;
 import static io.appium.java_client.pagefactory.utils.WebDriverUnpackUtility.getCurrentContentType;
+import static io.appium.java_client.pagefactory.utils.WebDriverUnpackUtility.unpackObjectFromSearchContext;
 import static java.lang.String.format;
 
 class AppiumElementLocator implements CacheableLocator {
@@ -155,10 +159,19 @@ class AppiumElementLocator implements CacheableLocator {
                                 + "because its context has been garbage collected", by)
                 ));
 
+        Optional<ElementLookupCache> lookupCache = getLookupCache(searchContext);
+        long cacheGeneration = lookupCache.map(ElementLookupCache::getGeneration).orElse(0L);
+        WebElement cached = lookupCache.map(cache -> cache.getElement(searchContext, by)).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
+
         By bySearching = getBy(this.by, searchContext);
         try {
             WebElement result = waitFor(() -> searchContext.findElement(bySearching));
-            if (shouldCache) {
+            if (lookupCache.isPresent()) {
+                lookupCache.get().putElement(searchContext, by, result, cacheGeneration);
+            } else if (shouldCache) {
                 cachedElement = result;
             }
             return result;
@@ -181,6 +194,13 @@ class AppiumElementLocator implements CacheableLocator {
                             + "because their context has been garbage collected", by)
                 ));
 
+        Optional<ElementLookupCache> lookupCache = getLookupCache(searchContext);
+        long cacheGeneration = lookupCache.map(ElementLookupCache::getGeneration).orElse(0L);
+        List<WebElement> cached = lookupCache.map(cache -> cache.getElements(searchContext, by)).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
+
         List<WebElement> result;
         try {
             result = waitFor(() -> {
@@ -191,12 +211,34 @@ class AppiumElementLocator implements CacheableLocator {
             result = new ArrayList<>();
         }
 
-        if (shouldCache) {
+        if (lookupCache.isPresent()) {
+            if (!result.isEmpty()) {
+                lookupCache.get().putElements(searchContext, by, result, cacheGeneration);
+            }
+        } else if (shouldCache) {
             cachedElementList = result;
         }
         return result;
     }
 
+    /**
+     * Cached lookups of Appium sessions are stored in the session-scoped cache,
+     * which is invalidated by state-changing commands. Other drivers keep
+     * the found elements in the locator instance forever.
+     *
+     * @param searchContext the context to use when finding the element
+     * @return the session-scoped cache if lookups should be cached and the driver supports it
+     */
+    private Optional<ElementLookupCache> getLookupCache(SearchContext searchContext) {
+        if (!shouldCache) {
+            return Optional.empty();
+        }
+        return unpackObjectFromSearchContext(searchContext, RemoteWebDriver.class)
+                .map(RemoteWebDriver::getCommandExecutor)
+                .filter(AppiumCommandExecutor.class::isInstance)
+                .map(executor -> ((AppiumCommandExecutor) executor).getElementLookupCache());
+    }
+
     @Override public boolean isLookUpCached() {
         return shouldCache;
     }
@@ -44,6 +44,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.appium.java_client.pagefactory.utils.ProxyFactory.getEnhancedProxy;
@@ -67,6 +70,18 @@ public class AppiumFieldDecorator implements FieldDecorator {
             RemoteWebElement.class
     );
     public static final Duration DEFAULT_WAITING_TIMEOUT = ofSeconds(1);
+    /**
+     * Widget decoration plans of page object fields grouped by page object classes.
+     * Plans only depend on the field declaration and the platform/automation pair, so
+     * further instances of the same page object class only bind proxies to the driver.
+     */
+    private static final ClassValue<Map<PlanKey, Optional<WidgetDecorationPlan>>> DECORATION_PLANS =
+            new ClassValue<>() {
+                @Override
+                protected Map<PlanKey, Optional<WidgetDecorationPlan>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
     private final WeakReference<WebDriver> webDriverReference;
     private final DefaultFieldDecorator defaultElementFieldDecorator;
     private final AppiumElementLocatorFactory widgetLocatorFactory;
@@ -199,6 +214,33 @@ public class AppiumFieldDecorator implements FieldDecorator {
 
     @Nullable
     private Object decorateWidget(Field field) {
+        var plan = DECORATION_PLANS.get(field.getDeclaringClass())
+                .computeIfAbsent(new PlanKey(field, platform, automation),
+                        key -> Optional.ofNullable(createDecorationPlan(field, platform)))
+                .orElse(null);
+        if (plan == null) {
+            return null;
+        }
+
+        CacheableLocator locator = widgetLocatorFactory.createLocator(field);
+        if (plan.isList) {
+            return getEnhancedProxy(
+                    ArrayList.class,
+                    new WidgetListInterceptor(locator, webDriverReference, plan.instantiationMap,
+                            plan.widgetType, duration)
+            );
+        }
+
+        return getEnhancedProxy(
+                plan.widgetType,
+                new Class[]{plan.elementType},
+                new Object[]{proxyForAnElement(locator)},
+                new WidgetInterceptor(locator, webDriverReference, null, plan.instantiationMap, duration)
+        );
+    }
+
+    @Nullable
+    private static WidgetDecorationPlan createDecorationPlan(Field field, String platform) {
         Class<?> type = field.getType();
         if (!Widget.class.isAssignableFrom(type) && !List.class.isAssignableFrom(type)) {
             return null;
@@ -234,27 +276,64 @@ public class AppiumFieldDecorator implements FieldDecorator {
             widgetType = (Class<? extends Widget>) field.getType();
         }
 
-        CacheableLocator locator = widgetLocatorFactory.createLocator(field);
         Map<ContentType, Constructor<? extends Widget>> map = OverrideWidgetReader.read(widgetType, field, platform);
-
-        if (isAlist) {
-            return getEnhancedProxy(
-                    ArrayList.class,
-                    new WidgetListInterceptor(locator, webDriverReference, map, widgetType, duration)
-            );
-        }
-
-        Constructor<? extends Widget> constructor = WidgetConstructorUtil.findConvenientConstructor(widgetType);
-        return getEnhancedProxy(
-                widgetType,
-                new Class[]{constructor.getParameterTypes()[0]},
-                new Object[]{proxyForAnElement(locator)},
-                new WidgetInterceptor(locator, webDriverReference, null, map, duration)
-        );
+        Class<?> elementType = isAlist
+                ? null
+                : WidgetConstructorUtil.findConvenientConstructor(widgetType).getParameterTypes()[0];
+        return new WidgetDecorationPlan(widgetType, isAlist, Collections.unmodifiableMap(map), elementType);
     }
 
     private WebElement proxyForAnElement(ElementLocator locator) {
         ElementInterceptor elementInterceptor = new ElementInterceptor(locator, webDriverReference);
         return getEnhancedProxy(RemoteWebElement.class, elementInterceptor);
     }
+
+    private static final class PlanKey {
+        private final Field field;
+        @Nullable
+        private final String platform;
+        @Nullable
+        private final String automation;
+
+        private PlanKey(Field field, @Nullable String platform, @Nullable String automation) {
+            this.field = field;
+            this.platform = platform;
+            this.automation = automation;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            var other = (PlanKey) o;
+            return field.equals(other.field) && Objects.equals(platform, other.platform)
+                    && Objects.equals(automation, other.automation);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(field, platform, automation);
+        }
+    }
+
+    private static final class WidgetDecorationPlan {
+        private final Class<? extends Widget> widgetType;
+        private final boolean isList;
+        private final Map<ContentType, Constructor<? extends Widget>> instantiationMap;
+        @Nullable
+        private final Class<?> elementType;
+
+        private WidgetDecorationPlan(Class<? extends Widget> widgetType, boolean isList,
+                                     Map<ContentType, Constructor<? extends Widget>> instantiationMap,
+                                     @Nullable Class<?> elementType) {
+            this.widgetType = widgetType;
+            this.isList = isList;
+            this.instantiationMap = instantiationMap;
+            this.elementType = elementType;
+        }
+    }
 }
@@ -40,7 +40,9 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Integer.signum;
 import static java.util.Arrays.asList;
@@ -52,6 +54,18 @@ public class DefaultElementByBuilder extends AppiumByBuilder {
     private static final String VALUE = "value";
     private static final Class<?>[] ANNOTATION_ARGUMENTS = new Class[]{};
     private static final Object[] ANNOTATION_PARAMETERS = new Object[]{};
+    private static final ClassValue<Method> PRIORITY_METHODS = new AnnotationMethodValue(PRIORITY);
+    private static final ClassValue<Method> VALUE_METHODS = new AnnotationMethodValue(VALUE);
+    /**
+     * Locators built for fields of each page object class. Annotations cannot change at runtime,
+     * so the result only depends on the field, the builder type and the platform/automation pair.
+     */
+    private static final ClassValue<Map<LocatorKey, ContentMappedBy>> LOCATOR_TABLES = new ClassValue<>() {
+        @Override
+        protected Map<LocatorKey, ContentMappedBy> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     public DefaultElementByBuilder(String platform, String automation) {
         super(platform, automation);
@@ -134,10 +148,12 @@ public class DefaultElementByBuilder extends AppiumByBuilder {
                 continue;
             }
 
-            Method value;
+            Method value = VALUE_METHODS.get(annotationClass);
             Annotation[] subLocators;
             try {
-                value = annotationClass.getMethod(VALUE, ANNOTATION_ARGUMENTS);
+                if (value == null) {
+                    throw new NoSuchMethodException(VALUE);
+                }
                 subLocators = (Annotation[]) value.invoke(a, ANNOTATION_PARAMETERS);
             } catch (NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
                 throw new ClassCastException(String.format("The annotation '%s' has no convenient '%s' method which "
@@ -184,15 +200,42 @@ public class DefaultElementByBuilder extends AppiumByBuilder {
         return annotatedElement.getAnnotation(CacheLookup.class) != null;
     }
 
-    private By returnMappedBy(By byDefault, By nativeAppBy) {
+    private ContentMappedBy returnMappedBy(By byDefault, By nativeAppBy) {
         Map<ContentType, By> contentMap = new HashMap<>();
         contentMap.put(ContentType.HTML_OR_DEFAULT, byDefault);
         contentMap.put(ContentType.NATIVE_MOBILE_SPECIFIC, nativeAppBy);
         return new ContentMappedBy(contentMap);
     }
 
+    /**
+     * Builds the locator for the currently annotated element.
+     * Locators of page object fields are only built once per field, builder type and platform/automation pair.
+     * Further calls return copies of the remembered locator, so a page object class is
+     * only parsed on its first instantiation.
+     *
+     * @return the locator for the currently annotated element.
+     */
     @Override
     public By buildBy() {
+        AnnotatedElement annotatedElement = annotatedElementContainer.getAnnotated();
+        // subclasses may depend on a state, which is not a part of the key
+        boolean isCacheable = (getClass() == DefaultElementByBuilder.class || getClass() == WidgetByBuilder.class)
+                && annotatedElement instanceof Field;
+        if (!isCacheable) {
+            return buildMappedBy();
+        }
+
+        var locatorTable = LOCATOR_TABLES.get(((Field) annotatedElement).getDeclaringClass());
+        var key = new LocatorKey(getClass(), platform, automation, annotatedElement);
+        ContentMappedBy prototype = locatorTable.get(key);
+        if (prototype == null) {
+            prototype = buildMappedBy();
+            locatorTable.putIfAbsent(key, prototype);
+        }
+        return prototype.copy();
+    }
+
+    private ContentMappedBy buildMappedBy() {
         assertValidAnnotations();
 
         By defaultBy = buildDefaultBy();
@@ -219,14 +262,64 @@ public class DefaultElementByBuilder extends AppiumByBuilder {
         return returnMappedBy(defaultBy, mobileNativeBy);
     }
 
-    private static class AnnotationComparator implements Comparator<Annotation> {
+    private static final class LocatorKey {
+        private final Class<?> builderClass;
+        private final String platform;
+        private final String automation;
+        private final AnnotatedElement annotatedElement;
+
+        private LocatorKey(Class<?> builderClass, String platform, String automation,
+                           AnnotatedElement annotatedElement) {
+            this.builderClass = builderClass;
+            this.platform = platform;
+            this.automation = automation;
+            this.annotatedElement = annotatedElement;
+        }
 
-        private static Method getPriorityMethod(Class<? extends Annotation> clazz) {
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LocatorKey)) {
+                return false;
+            }
+            var other = (LocatorKey) o;
+            return builderClass == other.builderClass && platform.equals(other.platform)
+                    && automation.equals(other.automation) && annotatedElement.equals(other.annotatedElement);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(builderClass, platform, automation, annotatedElement);
+        }
+    }
+
+    private static final class AnnotationMethodValue extends ClassValue<Method> {
+        private final String methodName;
+
+        private AnnotationMethodValue(String methodName) {
+            this.methodName = methodName;
+        }
+
+        @Override
+        protected Method computeValue(Class<?> type) {
             try {
-                return clazz.getMethod(PRIORITY, ANNOTATION_ARGUMENTS);
+                return type.getMethod(methodName, ANNOTATION_ARGUMENTS);
             } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    }
+
+    private static class AnnotationComparator implements Comparator<Annotation> {
+
+        private static Method getPriorityMethod(Class<? extends Annotation> clazz) {
+            Method priorityMethod = PRIORITY_METHODS.get(clazz);
+            if (priorityMethod == null) {
                 throw new ClassCastException(String.format("Class %s has no '%s' method", clazz.getName(), PRIORITY));
             }
+            return priorityMethod;
         }
 
         private static int getPriorityValue(Method priorityMethod, Annotation annotation,
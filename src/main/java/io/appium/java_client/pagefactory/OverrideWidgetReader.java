@@ -20,9 +20,9 @@ import io.appium.java_client.pagefactory.bys.ContentType;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import static io.appium.java_client.pagefactory.WidgetConstructorUtil.findConvenientConstructor;
 import static io.appium.java_client.remote.MobilePlatform.ANDROID;
@@ -32,29 +32,25 @@ import static java.util.Locale.ROOT;
 
 class OverrideWidgetReader {
     private static final Class<? extends Widget> EMPTY = Widget.class;
-    private static final String HTML = "html";
-    private static final String ANDROID_UI_AUTOMATOR = "androidUIAutomator";
-    private static final String IOS_XCUIT_AUTOMATION = "iOSXCUITAutomation";
-    private static final String WINDOWS_AUTOMATION = "windowsAutomation";
+    private static final Function<OverrideWidget, Class<? extends Widget>> HTML = OverrideWidget::html;
+    private static final Function<OverrideWidget, Class<? extends Widget>> ANDROID_UI_AUTOMATOR =
+            OverrideWidget::androidUIAutomator;
+    private static final Function<OverrideWidget, Class<? extends Widget>> IOS_XCUIT_AUTOMATION =
+            OverrideWidget::iOSXCUITAutomation;
+    private static final Function<OverrideWidget, Class<? extends Widget>> WINDOWS_AUTOMATION =
+            OverrideWidget::windowsAutomation;
 
     private OverrideWidgetReader() {
     }
 
-    @SuppressWarnings("unchecked")
-    private static Class<? extends Widget> getConvenientClass(Class<? extends Widget> declaredClass,
-                                                              AnnotatedElement annotatedElement, String method) {
+    private static Class<? extends Widget> getConvenientClass(
+            Class<? extends Widget> declaredClass, AnnotatedElement annotatedElement,
+            Function<OverrideWidget, Class<? extends Widget>> method) {
         Class<? extends Widget> convenientClass;
         OverrideWidget overrideWidget = annotatedElement.getAnnotation(OverrideWidget.class);
 
-        try {
-            if (overrideWidget == null || (convenientClass =
-                    (Class<? extends Widget>) OverrideWidget.class
-                            .getDeclaredMethod(method).invoke(overrideWidget))
-                    .equals(EMPTY)) {
-                convenientClass = declaredClass;
-            }
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException e) {
-            throw new RuntimeException(e);
+        if (overrideWidget == null || (convenientClass = method.apply(overrideWidget)).equals(EMPTY)) {
+            convenientClass = declaredClass;
         }
 
         if (!declaredClass.isAssignableFrom(convenientClass)) {
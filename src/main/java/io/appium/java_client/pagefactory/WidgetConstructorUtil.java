@@ -18,17 +18,35 @@ package io.appium.java_client.pagefactory;
 
 import org.openqa.selenium.WebElement;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
 import java.util.List;
 
 class WidgetConstructorUtil {
+    private static final MethodType WIDGET_FACTORY_TYPE = MethodType.methodType(Widget.class, WebElement.class);
+
+    /**
+     * Convenient constructors of widget classes and method handles invoking them.
+     * Handles are adapted to the {@code (WebElement) -> Widget} type, so they can be invoked exactly.
+     */
+    private static final ClassValue<WidgetFactory> WIDGET_FACTORIES = new ClassValue<>() {
+        @Override
+        protected WidgetFactory computeValue(Class<?> type) {
+            //noinspection unchecked
+            return new WidgetFactory(lookupConvenientConstructor((Class<? extends Widget>) type));
+        }
+    };
+
     private WidgetConstructorUtil() {
         super();
     }
 
     @SuppressWarnings("unchecked")
-    static Constructor<? extends Widget> findConvenientConstructor(Class<? extends Widget> clazz) {
+    private static Constructor<? extends Widget> lookupConvenientConstructor(Class<? extends Widget> clazz) {
         Constructor<?>[] constructors = clazz.getDeclaredConstructors();
         for (Constructor<?> constructor : constructors) {
             Class<?>[] params = constructor.getParameterTypes();
@@ -49,4 +67,47 @@ class WidgetConstructorUtil {
                     + " instance as a parameter. The actual list of constructors: "
                     + declared.toString());
     }
+
+    static Constructor<? extends Widget> findConvenientConstructor(Class<? extends Widget> clazz) {
+        return WIDGET_FACTORIES.get(clazz).constructor;
+    }
+
+    /**
+     * Creates a new widget instance. Convenient constructors are invoked via
+     * cached method handles, other constructors are invoked reflectively.
+     * Exceptions thrown by constructors are wrapped in the same way as
+     * {@link Constructor#newInstance(Object...)} does.
+     *
+     * @param constructor the widget constructor accepting a single element argument
+     * @param element the element to pass to the constructor
+     * @return the new widget instance
+     * @throws InvocationTargetException if the widget constructor has thrown an exception
+     * @throws ReflectiveOperationException if the widget constructor cannot be invoked
+     */
+    static Widget newInstance(Constructor<? extends Widget> constructor, WebElement element)
+            throws ReflectiveOperationException {
+        var factory = WIDGET_FACTORIES.get(constructor.getDeclaringClass());
+        if (!factory.constructor.equals(constructor)) {
+            return constructor.newInstance(element);
+        }
+        try {
+            return (Widget) factory.handle.invokeExact(element);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private static final class WidgetFactory {
+        private final Constructor<? extends Widget> constructor;
+        private final MethodHandle handle;
+
+        private WidgetFactory(Constructor<? extends Widget> constructor) {
+            this.constructor = constructor;
+            try {
+                this.handle = MethodHandles.lookup().unreflectConstructor(constructor).asType(WIDGET_FACTORY_TYPE);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
@@ -78,7 +78,7 @@ public class WidgetInterceptor extends InterceptorOfASingleElement {
                 );
             }
 
-            Widget widget = constructor.newInstance(element);
+            Widget widget = WidgetConstructorUtil.newInstance(constructor, element);
             cachedInstances.put(type, widget);
             PageFactory.initElements(new AppiumFieldDecorator(new WeakReference<>(widget), duration), widget);
         }
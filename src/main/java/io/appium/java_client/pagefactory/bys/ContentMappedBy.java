@@ -37,6 +37,16 @@ public class ContentMappedBy extends By {
         this.map = map;
     }
 
+    /**
+     * Creates a new instance sharing the same locators map. The current content type
+     * of the copy may be changed independently of the original instance.
+     *
+     * @return the copy of this locator.
+     */
+    public ContentMappedBy copy() {
+        return new ContentMappedBy(map);
+    }
+
     /**
      * This method sets required content type for the further searching.
      *
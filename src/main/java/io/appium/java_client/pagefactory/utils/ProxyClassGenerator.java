@@ -0,0 +1,98 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.pagefactory.utils;
+
+import io.appium.java_client.proxy.Helpers;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates proxy classes, which are otherwise created at runtime by {@link Helpers#createProxy}
+ * and {@link ProxyFactory#getEnhancedProxy}, ahead of time.
+ * Proxy class names are derived from their signatures, so if generated class files are
+ * packaged into the test classpath then they are loaded instead of being generated again.
+ * Each class embeds its signature, so classes generated by another client version or for
+ * other method matchers are ignored and generated at runtime instead.
+ * This reduces the startup time and allows to use proxies in environments, which do not support
+ * runtime class generation. Classes should be regenerated after the client library is upgraded.
+ * Usage:
+ * <pre>
+ * java -cp &lt;test runtime classpath&gt; io.appium.java_client.pagefactory.utils.ProxyClassGenerator \
+ *     &lt;output folder&gt; [&lt;class name&gt;[:&lt;constructor argument type&gt;,...] ...]
+ * </pre>
+ * Each listed class gets proxies with the method matchers used by
+ * {@link Helpers#createProxy(Class, java.util.Collection)} and by the page factory.
+ * Page factory proxies of {@link RemoteWebElement} and {@link ArrayList} are always generated.
+ * Widget classes should be listed with the type of their constructor argument,
+ * for example {@code com.example.LoginForm:org.openqa.selenium.WebElement}.
+ */
+public class ProxyClassGenerator {
+    private ProxyClassGenerator() {
+    }
+
+    /**
+     * Generates proxy classes into the given folder.
+     *
+     * @param outputDir the root folder to save class files to
+     * @param specs     class names with optional constructor argument types
+     * @return generated class files
+     * @throws IOException            if class files cannot be written
+     * @throws ClassNotFoundException if any of listed classes cannot be loaded
+     */
+    public static List<File> generate(Path outputDir, List<String> specs) throws IOException, ClassNotFoundException {
+        var result = new ArrayList<File>();
+        result.add(ProxyFactory.saveProxyClass(outputDir, RemoteWebElement.class));
+        result.add(ProxyFactory.saveProxyClass(outputDir, ArrayList.class));
+        for (var spec : specs) {
+            var parts = spec.split(":", 2);
+            var cls = Class.forName(parts[0].trim());
+            var argTypes = new ArrayList<Class<?>>();
+            if (parts.length > 1 && !parts[1].isBlank()) {
+                for (var argType : parts[1].split(",")) {
+                    argTypes.add(Class.forName(argType.trim()));
+                }
+            }
+            var argTypesArray = argTypes.toArray(new Class<?>[0]);
+            result.add(Helpers.saveProxyClass(outputDir, cls, argTypesArray, Helpers.DEFAULT_METHOD_MATCHER));
+            result.add(ProxyFactory.saveProxyClass(outputDir, cls, argTypesArray));
+        }
+        return result;
+    }
+
+    /**
+     * The command line entry point.
+     *
+     * @param args the output folder followed by class specifications
+     * @throws Exception if proxy classes cannot be generated
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            throw new IllegalArgumentException(String.format(
+                    "Usage: %s <output folder> [<class name>[:<constructor argument type>,...] ...]",
+                    ProxyClassGenerator.class.getName()));
+        }
+        var files = generate(Paths.get(args[0]), Arrays.asList(args).subList(1, args.length));
+        files.forEach(file -> System.out.println(file.getAbsolutePath()));
+    }
+}
@@ -16,10 +16,14 @@
 
 package io.appium.java_client.pagefactory.utils;
 
+import io.appium.java_client.proxy.Helpers;
 import io.appium.java_client.proxy.MethodCallListener;
 import net.bytebuddy.description.method.MethodDescription;
 import net.bytebuddy.matcher.ElementMatcher;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -40,6 +44,11 @@ public final class ProxyFactory {
     private static final Set<String> NON_PROXYABLE_METHODS = setWithout(
             OBJECT_METHOD_NAMES, "toString", "equals", "hashCode"
     );
+    private static final ElementMatcher<MethodDescription> EXTRA_METHOD_MATCHER = not(
+            namedOneOf(NON_PROXYABLE_METHODS.toArray(new String[0]))
+    ).and(
+            not(isAbstract())
+    );
 
     @SafeVarargs
     private static <T> Set<T> setWithout(@SuppressWarnings("SameParameterValue") Set<T> source, T... items) {
@@ -87,17 +96,41 @@ public final class ProxyFactory {
     public static <T> T getEnhancedProxy(
             Class<T> cls, Class<?>[] params, Object[] values, MethodCallListener listener
     ) {
-        ElementMatcher<MethodDescription> extraMatcher = not(
-                namedOneOf(NON_PROXYABLE_METHODS.toArray(new String[0]))
-        ).and(
-                not(isAbstract())
-        );
         return createProxy(
                 cls,
                 values,
                 params,
                 Collections.singletonList(listener),
-                extraMatcher
+                EXTRA_METHOD_MATCHER
         );
     }
+
+    /**
+     * Generates the proxy class for the given class in advance, so the first
+     * {@link #getEnhancedProxy(Class, Class[], Object[], MethodCallListener)} call with the same
+     * class and constructor parameter types does not need to wait for the class generation.
+     * Page objects use proxies of {@link org.openqa.selenium.remote.RemoteWebElement} and
+     * {@link java.util.ArrayList} with an empty constructor, and widget classes with their
+     * constructor accepting a single {@link org.openqa.selenium.WebElement} argument.
+     *
+     * @param cls    is a {@link java.lang.Class} whose proxy class should be generated
+     * @param params parameter types of the constructor to be used for proxy instances creation
+     */
+    public static void prewarm(Class<?> cls, Class<?>... params) {
+        Helpers.prewarm(cls, params, EXTRA_METHOD_MATCHER);
+    }
+
+    /**
+     * Generates the proxy class for the given class and saves it into the given folder.
+     * See {@link ProxyClassGenerator} for more details.
+     *
+     * @param outputDir the root folder to save the class file to
+     * @param cls       is a {@link java.lang.Class} whose proxy class should be generated
+     * @param params    parameter types of the constructor to be used for proxy instances creation
+     * @return the saved class file
+     * @throws IOException if the class file cannot be written
+     */
+    public static File saveProxyClass(Path outputDir, Class<?> cls, Class<?>... params) throws IOException {
+        return Helpers.saveProxyClass(outputDir, cls, params, EXTRA_METHOD_MATCHER);
+    }
 }
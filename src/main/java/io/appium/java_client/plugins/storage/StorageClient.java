@@ -16,6 +16,8 @@
 
 package io.appium.java_client.plugins.storage;
 
+import io.appium.java_client.internal.VirtualThreads;
+import io.appium.java_client.internal.jfr.FlightRecorderEvents;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.json.Json;
 import org.openqa.selenium.remote.ErrorCodec;
@@ -36,15 +38,20 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
-import static io.appium.java_client.plugins.storage.StorageUtils.calcSha1Digest;
+import static io.appium.java_client.plugins.storage.StorageUtils.calcSha1DigestCached;
 import static io.appium.java_client.plugins.storage.StorageUtils.streamFileToWebSocket;
 
 /**
@@ -83,15 +90,28 @@ public class StorageClient {
 
     /**
      * Adds a local file to the server storage.
+     * The SHA1 digest of the file is cached, so it is not recalculated
+     * on subsequent uploads of the same unchanged file.
      *
      * @param file File instance.
      * @param name The remote file name.
      */
     public void add(File file, String name) {
+        var span = FlightRecorderEvents.beginStorageTransfer();
+        var isSuccessful = false;
+        try {
+            upload(file, name);
+            isSuccessful = true;
+        } finally {
+            span.complete(name, file, isSuccessful);
+        }
+    }
+
+    private void upload(File file, String name) {
         var request = new HttpRequest(HttpMethod.POST, formatPath(baseUrl, PREFIX, "add").toString());
         var httpResponse = httpClient.execute(setJsonPayload(request, Map.of(
                 "name", name,
-                "sha1", calcSha1Digest(file)
+                "sha1", calcSha1DigestCached(file)
         )));
         Map<String, Object> value = requireResponseValue(httpResponse);
         final var wsTtlMs = (Long) value.get("ttlMs");
@@ -125,6 +145,84 @@ public class StorageClient {
         }
     }
 
+    /**
+     * Adds a local file to the server storage unless the storage already contains
+     * an item with the same name and size. The storage does not expose hashes of its items,
+     * so files having the same size but a different content are not detected.
+     *
+     * @param file File instance.
+     * @param name The remote file name.
+     * @return true if the file has been uploaded or false if the upload has been skipped.
+     */
+    public boolean addIfChanged(File file, String name) {
+        if (isStored(list(), file, name)) {
+            return false;
+        }
+        add(file, name);
+        return true;
+    }
+
+    /**
+     * Adds multiple local files to the server storage concurrently.
+     * Remote file names are set to the same values as local file names.
+     * Files whose name and size match already existing storage items are not uploaded again
+     * (see {@link #addIfChanged(File, String)} for more details).
+     * Threads performing uploads are virtual if
+     * {@link io.appium.java_client.internal.VirtualThreads#USE_VIRTUAL_THREADS} is enabled.
+     *
+     * @param files       Files to upload. Their names must be unique.
+     * @param parallelism The maximum count of simultaneous uploads.
+     * @return Files that have been uploaded. Skipped files are not included.
+     * @throws WebDriverException if any of uploads has failed. Failures of other uploads
+     *     are added to the thrown exception as suppressed ones.
+     */
+    public List<File> addAll(Collection<File> files, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism value must be a positive number");
+        }
+        var names = new HashSet<String>();
+        files.stream().filter(file -> !names.add(file.getName())).findFirst().ifPresent(file -> {
+            throw new IllegalArgumentException(String.format(
+                    "Files to upload must have unique names. '%s' is present more than once", file.getName()));
+        });
+        var storedItems = list();
+        var filesToUpload = files.stream()
+                .filter(file -> !isStored(storedItems, file, file.getName()))
+                .collect(Collectors.toList());
+        if (filesToUpload.isEmpty()) {
+            return filesToUpload;
+        }
+
+        var executor = Executors.newFixedThreadPool(Math.min(parallelism, filesToUpload.size()),
+                VirtualThreads.newThreadFactory("appium-storage-upload"));
+        try {
+            var uploads = filesToUpload.stream()
+                    .map(file -> CompletableFuture.runAsync(() -> add(file), executor))
+                    .collect(Collectors.toList());
+            RuntimeException failure = null;
+            for (var upload : uploads) {
+                try {
+                    upload.join();
+                } catch (CompletionException e) {
+                    var cause = e.getCause() instanceof RuntimeException
+                            ? (RuntimeException) e.getCause()
+                            : new WebDriverException(e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return filesToUpload;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     /**
      * Lists items that exist in the storage.
      *
@@ -164,6 +262,11 @@ public class StorageClient {
         requireResponseValue(httpResponse);
     }
 
+    private static boolean isStored(List<StorageItem> storedItems, File file, String name) {
+        var size = file.length();
+        return storedItems.stream().anyMatch(item -> name.equals(item.getName()) && item.getSize() == size);
+    }
+
     private static URL formatPath(URL url, String... suffixes) {
         if (suffixes.length == 0) {
             return url;
@@ -26,9 +26,15 @@ import java.io.UncheckedIOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Formatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class StorageUtils {
     private static final int BUFFER_SIZE = 0xFFFF;
+    private static final int MAX_CACHED_DIGESTS = 256;
+    private static final Map<List<Object>, CompletableFuture<String>> SHA1_CACHE = new ConcurrentHashMap<>();
 
     private StorageUtils() {
     }
@@ -58,6 +64,40 @@ public class StorageUtils {
         return byteToHex(sha1sum.digest());
     }
 
+    /**
+     * Calculates SHA1 hex digest of the given file. The result is cached, so
+     * the digest is only recalculated if the file path, size or modification time
+     * have been changed since the previous call. Concurrent calls for the same file
+     * wait for a single calculation to finish.
+     *
+     * @param source The file instance to calculate the hash for.
+     * @return Hash digest represented as a string of hexadecimal numbers.
+     */
+    public static String calcSha1DigestCached(File source) {
+        List<Object> key;
+        try {
+            key = List.of(source.getCanonicalPath(), source.length(), source.lastModified());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        var future = new CompletableFuture<String>();
+        var existingFuture = SHA1_CACHE.putIfAbsent(key, future);
+        if (existingFuture != null) {
+            return existingFuture.join();
+        }
+        if (SHA1_CACHE.size() > MAX_CACHED_DIGESTS) {
+            SHA1_CACHE.keySet().removeIf(cachedKey -> !cachedKey.equals(key));
+        }
+        try {
+            future.complete(calcSha1Digest(source));
+        } catch (RuntimeException e) {
+            SHA1_CACHE.remove(key, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+        return future.join();
+    }
+
     /**
      * Feeds the content of the given file to the provided web socket.
      *
@@ -65,13 +105,11 @@ public class StorageUtils {
      * @param socket The destination web socket.
      */
     public static void streamFileToWebSocket(File source, WebSocket socket) {
-        var buffer = new byte[BUFFER_SIZE];
-        int bytesRead;
-        try (var in = new BufferedInputStream(new FileInputStream(source))) {
-            while ((bytesRead = in.read(buffer)) != -1) {
-                var currentBuffer = new byte[bytesRead];
-                System.arraycopy(buffer, 0, currentBuffer, 0, bytesRead);
-                socket.sendBinary(currentBuffer);
+        try (var in = new FileInputStream(source)) {
+            // each chunk gets its own array, since the socket may send it asynchronously
+            byte[] chunk;
+            while ((chunk = in.readNBytes(BUFFER_SIZE)).length > 0) {
+                socket.sendBinary(chunk);
             }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
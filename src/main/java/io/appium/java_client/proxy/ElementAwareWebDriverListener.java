@@ -16,22 +16,32 @@
 
 package io.appium.java_client.proxy;
 
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.RemoteWebElement;
 
 import java.lang.reflect.Method;
-import java.util.Collections;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.concurrent.Callable;
-import java.util.stream.Collectors;
 
 import static io.appium.java_client.proxy.Helpers.OBJECT_METHOD_NAMES;
-import static io.appium.java_client.proxy.Helpers.createProxy;
+import static io.appium.java_client.proxy.Helpers.createProxyWithSharedListeners;
 import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 
 public class ElementAwareWebDriverListener implements MethodCallListener, ProxyAwareListener {
+    private static final ElementMatcher<MethodDescription> ELEMENT_METHOD_MATCHER = ElementMatchers.not(
+            namedOneOf(OBJECT_METHOD_NAMES.toArray(new String[0]))
+                    .or(ElementMatchers.named("setId").or(ElementMatchers.named("setParent")))
+    );
+
+    // all element proxies created by this listener share the same listeners array
+    private final MethodCallListener[] elementListeners = new MethodCallListener[]{this};
     private WebDriver parent;
 
     /**
@@ -53,8 +63,8 @@ public class ElementAwareWebDriverListener implements MethodCallListener, ProxyA
      * <p>
      * If the result of the method call is a {@link RemoteWebElement},
      * it is wrapped with a proxy to allow further interception of RemoteWebElement method calls.
-     * If the result is a list, each item is checked, and all RemoteWebElements are
-     * individually proxied. All other return types are passed through unmodified.
+     * If the result is a list, a list view is returned instead, which proxies
+     * RemoteWebElement items on their first access. All other return types are passed through unmodified.
      * Avoid overriding this method, it will alter the behaviour of the listener.
      *
      * @param obj      The object on which the method was invoked.
@@ -73,10 +83,7 @@ public class ElementAwareWebDriverListener implements MethodCallListener, ProxyA
         }
 
         if (result instanceof List) {
-            return ((List<?>) result).stream()
-                    .map(item -> item instanceof RemoteWebElement ? wrapElement(
-                            (RemoteWebElement) item) : item)
-                    .collect(Collectors.toList());
+            return new LazyElementList((List<?>) result);
         }
 
         return result;
@@ -85,16 +92,10 @@ public class ElementAwareWebDriverListener implements MethodCallListener, ProxyA
     private RemoteWebElement wrapElement(
             RemoteWebElement original
     ) {
-        RemoteWebElement proxy = createProxy(
+        RemoteWebElement proxy = createProxyWithSharedListeners(
                 RemoteWebElement.class,
-                new Object[]{},
-                new Class[]{},
-                Collections.singletonList(this),
-                ElementMatchers.not(
-                        namedOneOf(
-                                OBJECT_METHOD_NAMES.toArray(new String[0]))
-                                .or(ElementMatchers.named("setId").or(ElementMatchers.named("setParent")))
-                )
+                elementListeners,
+                ELEMENT_METHOD_MATCHER
         );
 
         proxy.setId(original.getId());
@@ -104,4 +105,62 @@ public class ElementAwareWebDriverListener implements MethodCallListener, ProxyA
         return proxy;
     }
 
+    /**
+     * A mutable list, which wraps {@link RemoteWebElement} items of the original list on their first access.
+     * Items, which have been put into the list by its users, are returned as is.
+     */
+    private final class LazyElementList extends AbstractList<Object> implements RandomAccess {
+        private final List<Object> items;
+
+        private LazyElementList(List<?> original) {
+            this.items = new ArrayList<>(original.size());
+            for (Object item : original) {
+                this.items.add(item instanceof RemoteWebElement ? new PendingElement((RemoteWebElement) item) : item);
+            }
+        }
+
+        @Override
+        public synchronized Object get(int index) {
+            Object item = items.get(index);
+            if (item instanceof PendingElement) {
+                item = wrapElement(((PendingElement) item).original);
+                items.set(index, item);
+            }
+            return item;
+        }
+
+        @Override
+        public synchronized Object set(int index, Object element) {
+            Object previous = get(index);
+            items.set(index, element);
+            return previous;
+        }
+
+        @Override
+        public synchronized void add(int index, Object element) {
+            items.add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public synchronized Object remove(int index) {
+            Object previous = get(index);
+            items.remove(index);
+            modCount++;
+            return previous;
+        }
+
+        @Override
+        public synchronized int size() {
+            return items.size();
+        }
+    }
+
+    private static final class PendingElement {
+        private final RemoteWebElement original;
+
+        private PendingElement(RemoteWebElement original) {
+            this.original = original;
+        }
+    }
 }
@@ -17,10 +17,15 @@
 package io.appium.java_client.proxy;
 
 import com.google.common.base.Preconditions;
+import io.appium.java_client.internal.Config;
+import io.appium.java_client.internal.filters.AppiumUserAgentFilter;
 import lombok.Value;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Ownership;
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.DynamicType;
 import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
 import net.bytebuddy.implementation.FieldAccessor;
 import net.bytebuddy.implementation.MethodDelegation;
@@ -28,30 +33,58 @@ import net.bytebuddy.matcher.ElementMatcher;
 import net.bytebuddy.matcher.ElementMatchers;
 import org.jspecify.annotations.Nullable;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 
 public class Helpers {
+    private static final String PROXY_CLASS_NAME_MARKER = "$AppiumProxy$";
+    private static final String JDK_CLASS_PROXIES_PACKAGE = "io.appium.java_client.proxy.generated.";
+    private static final String PROXY_SIGNATURE_FIELD = "APPIUM_PROXY_SIGNATURE";
+    private static final int PROXY_CLASS_NAME_HASH_BYTES = 8;
+    private static final String CLIENT_VERSION = Config.main()
+            .getOptionalValue(AppiumUserAgentFilter.VERSION_KEY, String.class)
+            .orElse("unknown");
+
     public static final Set<String> OBJECT_METHOD_NAMES = Stream.of(Object.class.getMethods())
             .map(Method::getName)
             .collect(Collectors.toSet());
 
+    /**
+     * Excludes methods of {@link Object} from proxying.
+     * It is used by default unless a custom method matcher is provided.
+     */
+    public static final ElementMatcher<MethodDescription> DEFAULT_METHOD_MATCHER = ElementMatchers.not(namedOneOf(
+            OBJECT_METHOD_NAMES.toArray(new String[0])
+    ));
+
     // Each proxy class created by ByteBuddy gets automatically cached by the
     // given class loader. It is important to have this cache here in order to improve
     // the performance and to avoid extensive memory usage for our case, where
     // the amount of instrumented proxy classes we create is low in comparison to the amount
-    // of proxy instances.
-    private static final Map<ProxyClassSignature, Class<?>> CACHED_PROXY_CLASSES =
-        Collections.synchronizedMap(new WeakHashMap<>());
+    // of proxy instances. Classes for different signatures are generated concurrently,
+    // while threads requesting the same signature wait for a single generation to finish.
+    private static final Map<ProxyClassSignature, CompletableFuture<Class<?>>> CACHED_PROXY_CLASSES =
+            new ConcurrentHashMap<>();
 
     private Helpers() {
     }
@@ -81,10 +114,7 @@ public class Helpers {
             Class<?>[] constructorArgTypes,
             Collection<MethodCallListener> listeners
     ) {
-        ElementMatcher<MethodDescription> extraMatcher = ElementMatchers.not(namedOneOf(
-                OBJECT_METHOD_NAMES.toArray(new String[0])
-        ));
-        return createProxy(cls, constructorArgs, constructorArgTypes, listeners, extraMatcher);
+        return createProxy(cls, constructorArgs, constructorArgTypes, listeners, DEFAULT_METHOD_MATCHER);
     }
 
     /**
@@ -115,32 +145,14 @@ public class Helpers {
             Collection<MethodCallListener> listeners,
             @Nullable ElementMatcher<MethodDescription> extraMethodMatcher
     ) {
-        var signature = ProxyClassSignature.of(cls, constructorArgTypes, extraMethodMatcher);
-        var proxyClass = CACHED_PROXY_CLASSES.computeIfAbsent(signature, k -> {
-            Preconditions.checkArgument(constructorArgs.length == constructorArgTypes.length,
-                    String.format(
-                            "Constructor arguments array length %d must be equal to the types array length %d",
-                            constructorArgs.length, constructorArgTypes.length
-                    )
-            );
-            Preconditions.checkArgument(!listeners.isEmpty(), "The collection of listeners must not be empty");
-            requireNonNull(cls, "Class must not be null");
-            Preconditions.checkArgument(!cls.isInterface(), "Class must not be an interface");
-
-            ElementMatcher.Junction<MethodDescription> matcher = ElementMatchers.isPublic();
-            //noinspection resource
-            return new ByteBuddy()
-                    .subclass(cls)
-                    .method(extraMethodMatcher == null ? matcher : matcher.and(extraMethodMatcher))
-                    .intercept(MethodDelegation.to(Interceptor.class))
-                    // https://github.com/raphw/byte-buddy/blob/2caef35c172897cbdd21d163c55305a64649ce41/byte-buddy-dep/src/test/java/net/bytebuddy/ByteBuddyTutorialExamplesTest.java#L346
-                    .defineField("methodCallListeners", MethodCallListener[].class, Visibility.PRIVATE)
-                    .implement(HasMethodCallListeners.class).intercept(FieldAccessor.ofBeanProperty())
-                    .make()
-                    .load(Helpers.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
-                    .getLoaded()
-                    .asSubclass(cls);
-        });
+        Preconditions.checkArgument(constructorArgs.length == constructorArgTypes.length,
+                String.format(
+                        "Constructor arguments array length %d must be equal to the types array length %d",
+                        constructorArgs.length, constructorArgTypes.length
+                )
+        );
+        Preconditions.checkArgument(!listeners.isEmpty(), "The collection of listeners must not be empty");
+        var proxyClass = getProxyClass(cls, constructorArgTypes, extraMethodMatcher);
 
         try {
             T result = cls.cast(proxyClass.getConstructor(constructorArgTypes).newInstance(constructorArgs));
@@ -222,6 +234,217 @@ public class Helpers {
         return createProxy(cls, constructorArgs, constructorArgTypes, Collections.singletonList(listener));
     }
 
+    /**
+     * Creates a proxy instance using the default constructor of the given class.
+     * Unlike the public factory methods, the given listeners array is assigned to the proxy as is,
+     * so a single array might be shared by many short-living proxy instances.
+     *
+     * @param cls                The class to which the proxy should be created.
+     * @param listeners          The shared array of method invocation listeners. It must not be modified.
+     * @param extraMethodMatcher Additional method proxy conditions
+     * @param <T>                Any class derived from Object
+     * @return Proxy instance
+     */
+    static <T> T createProxyWithSharedListeners(
+            Class<T> cls,
+            MethodCallListener[] listeners,
+            ElementMatcher<MethodDescription> extraMethodMatcher
+    ) {
+        var proxyClass = getProxyClass(cls, new Class<?>[]{}, extraMethodMatcher);
+        try {
+            T result = cls.cast(proxyClass.getConstructor().newInstance());
+            ((HasMethodCallListeners) result).setMethodCallListeners(listeners);
+            for (var listener : listeners) {
+                if (listener instanceof ProxyAwareListener) {
+                    ((ProxyAwareListener) listener).attachProxyInstance(result);
+                }
+            }
+            return result;
+        } catch (SecurityException | ReflectiveOperationException e) {
+            throw new IllegalStateException(String.format("Unable to create a proxy of %s", cls.getName()), e);
+        }
+    }
+
+    /**
+     * Generates proxy classes for the given classes in advance, so the first
+     * {@link #createProxy(Class, Collection)} or {@link #createProxy(Class, MethodCallListener)} call
+     * for each of them does not need to wait for the class generation.
+     * Classes are generated in parallel.
+     *
+     * @param classes Classes to generate proxies for. Must not be interfaces.
+     */
+    public static void prewarm(Class<?>... classes) {
+        Arrays.stream(classes).parallel().forEach(cls -> prewarm(cls, new Class<?>[]{}, DEFAULT_METHOD_MATCHER));
+    }
+
+    /**
+     * Generates the proxy class for the given signature in advance, so the first
+     * {@link #createProxy(Class, Object[], Class[], Collection, ElementMatcher)} call
+     * with the same signature does not need to wait for the class generation.
+     * !!! This API is designed for private usage.
+     *
+     * @param cls                    The class to which the proxy should be created.
+     *                               Must not be an interface.
+     * @param constructorArgTypes    Array of constructor argument types.
+     * @param extraMethodMatcher     Optional additional method proxy conditions
+     */
+    public static void prewarm(
+            Class<?> cls,
+            Class<?>[] constructorArgTypes,
+            @Nullable ElementMatcher<MethodDescription> extraMethodMatcher
+    ) {
+        getProxyClass(cls, constructorArgTypes, extraMethodMatcher);
+    }
+
+    private static <T> Class<? extends T> getProxyClass(
+            Class<T> cls,
+            Class<?>[] constructorArgTypes,
+            @Nullable ElementMatcher<MethodDescription> extraMethodMatcher
+    ) {
+        var signature = ProxyClassSignature.of(cls, constructorArgTypes.clone(), extraMethodMatcher);
+        var future = new CompletableFuture<Class<?>>();
+        var existingFuture = CACHED_PROXY_CLASSES.putIfAbsent(signature, future);
+        if (existingFuture == null) {
+            try {
+                var proxySignature = getProxySignature(cls, constructorArgTypes, extraMethodMatcher);
+                var name = getProxyClassName(cls, proxySignature);
+                //noinspection resource
+                future.complete(findPregeneratedProxyClass(cls, name, proxySignature)
+                        .orElseGet(() -> makeProxyClass(cls, extraMethodMatcher, name, proxySignature)
+                                .load(Helpers.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER)
+                                .getLoaded()));
+            } catch (RuntimeException e) {
+                CACHED_PROXY_CLASSES.remove(signature, future);
+                future.completeExceptionally(e);
+                throw e;
+            }
+        } else {
+            future = existingFuture;
+        }
+        try {
+            return future.join().asSubclass(cls);
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+    }
+
+    /**
+     * Generates the proxy class for the given signature and saves it into the given folder,
+     * so it could be packaged with the application and loaded instead of being generated at runtime
+     * (see {@code io.appium.java_client.pagefactory.utils.ProxyClassGenerator}).
+     * The class is only loaded if its embedded signature matches the requested one, including
+     * the client version, otherwise the proxy class is generated at runtime as usual.
+     * !!! This API is designed for private usage.
+     *
+     * @param outputDir              The root folder to save the class file to.
+     * @param cls                    The class to which the proxy should be created.
+     *                               Must not be an interface.
+     * @param constructorArgTypes    Array of constructor argument types.
+     * @param extraMethodMatcher     Optional additional method proxy conditions
+     * @return The saved class file.
+     * @throws IOException If the class file cannot be written.
+     */
+    public static File saveProxyClass(
+            Path outputDir,
+            Class<?> cls,
+            Class<?>[] constructorArgTypes,
+            @Nullable ElementMatcher<MethodDescription> extraMethodMatcher
+    ) throws IOException {
+        var proxySignature = getProxySignature(cls, constructorArgTypes, extraMethodMatcher);
+        var name = getProxyClassName(cls, proxySignature);
+        try (var proxyType = makeProxyClass(cls, extraMethodMatcher, name, proxySignature)) {
+            return proxyType.saveIn(outputDir.toFile()).get(proxyType.getTypeDescription());
+        }
+    }
+
+    /**
+     * Describes everything a generated proxy class depends on: the base class, constructor argument types,
+     * the method matcher and the client version. Matchers without a stable string representation
+     * (e.g. lambdas) produce different signatures in different processes, so their proxy classes
+     * are always generated at runtime.
+     */
+    static String getProxySignature(
+            Class<?> cls,
+            Class<?>[] constructorArgTypes,
+            @Nullable ElementMatcher<MethodDescription> extraMethodMatcher
+    ) {
+        return cls.getName()
+                + Arrays.stream(constructorArgTypes).map(Class::getName).collect(Collectors.joining(",", "(", ")"))
+                + extraMethodMatcher + "@" + CLIENT_VERSION;
+    }
+
+    /**
+     * Proxy class names are derived from the proxy signature, so classes generated in advance
+     * could be found by the same name at runtime. Classes cannot be defined in java.* packages,
+     * so proxies of JDK classes get a separate package.
+     */
+    static String getProxyClassName(Class<?> cls, String proxySignature) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(proxySignature.getBytes(UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        var hash = new StringBuilder();
+        for (int i = 0; i < PROXY_CLASS_NAME_HASH_BYTES; i++) {
+            hash.append(String.format("%02x", digest[i]));
+        }
+        return (cls.getName().startsWith("java.") ? JDK_CLASS_PROXIES_PACKAGE : "")
+                + cls.getName() + PROXY_CLASS_NAME_MARKER + hash;
+    }
+
+    private static <T> Optional<Class<? extends T>> findPregeneratedProxyClass(
+            Class<T> cls, String name, String proxySignature) {
+        return Stream.of(cls.getClassLoader(), Helpers.class.getClassLoader())
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(classLoader -> loadPregeneratedProxyClass(cls, name, proxySignature, classLoader))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    /**
+     * Loads the proxy class with the given name if it exists and has been generated for the same signature.
+     * Classes generated for another signature, for example by a different client version, are ignored.
+     */
+    static <T> Optional<Class<? extends T>> loadPregeneratedProxyClass(
+            Class<T> cls, String name, String proxySignature, ClassLoader classLoader) {
+        try {
+            var proxyClass = Class.forName(name, false, classLoader);
+            if (proxyClass.getSuperclass() != cls || !HasMethodCallListeners.class.isAssignableFrom(proxyClass)
+                    || !proxySignature.equals(proxyClass.getField(PROXY_SIGNATURE_FIELD).get(null))) {
+                return Optional.empty();
+            }
+            return Optional.of(proxyClass.asSubclass(cls));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+
+    private static <T> DynamicType.Unloaded<T> makeProxyClass(
+            Class<T> cls,
+            @Nullable ElementMatcher<MethodDescription> extraMethodMatcher,
+            String name,
+            String proxySignature
+    ) {
+        requireNonNull(cls, "Class must not be null");
+        Preconditions.checkArgument(!cls.isInterface(), "Class must not be an interface");
+
+        ElementMatcher.Junction<MethodDescription> matcher = ElementMatchers.isPublic();
+        return new ByteBuddy()
+                .subclass(cls)
+                .name(name)
+                .defineField(PROXY_SIGNATURE_FIELD, String.class,
+                        Visibility.PUBLIC, Ownership.STATIC, FieldManifestation.FINAL)
+                .value(proxySignature)
+                .method(extraMethodMatcher == null ? matcher : matcher.and(extraMethodMatcher))
+                .intercept(MethodDelegation.to(Interceptor.class))
+                // https://github.com/raphw/byte-buddy/blob/2caef35c172897cbdd21d163c55305a64649ce41/byte-buddy-dep/src/test/java/net/bytebuddy/ByteBuddyTutorialExamplesTest.java#L346
+                .defineField("methodCallListeners", MethodCallListener[].class, Visibility.PRIVATE)
+                .implement(HasMethodCallListeners.class).intercept(FieldAccessor.ofBeanProperty())
+                .make();
+    }
+
     @Value(staticConstructor = "of")
     private static class ProxyClassSignature {
         Class<?> cls;
@@ -16,6 +16,7 @@
 
 package io.appium.java_client.proxy;
 
+import io.appium.java_client.internal.jfr.FlightRecorderEvents;
 import net.bytebuddy.implementation.bind.annotation.AllArguments;
 import net.bytebuddy.implementation.bind.annotation.Origin;
 import net.bytebuddy.implementation.bind.annotation.RuntimeType;
@@ -32,14 +33,46 @@ import static io.appium.java_client.proxy.MethodCallListener.UNSET;
 public class Interceptor {
     private static final Logger LOGGER = LoggerFactory.getLogger(Interceptor.class);
 
+    private static final int BEFORE_CALL = 1;
+    private static final int CALL = 1 << 1;
+    private static final int AFTER_CALL = 1 << 2;
+    private static final int ON_ERROR = 1 << 3;
+    // Listener classes usually override only some of the callbacks.
+    // Callbacks, which are not overridden, are no-ops, so they are not called at all.
+    private static final ClassValue<Integer> OVERRIDDEN_CALLBACKS = new ClassValue<>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+            return (isOverridden(type, "beforeCall", Object.class, Method.class, Object[].class) ? BEFORE_CALL : 0)
+                    | (isOverridden(type, "call", Object.class, Method.class, Object[].class, Callable.class)
+                    ? CALL : 0)
+                    | (isOverridden(type, "afterCall", Object.class, Method.class, Object[].class, Object.class)
+                    ? AFTER_CALL : 0)
+                    | (isOverridden(type, "onError", Object.class, Method.class, Object[].class, Throwable.class)
+                    ? ON_ERROR : 0);
+        }
+    };
+
     private Interceptor() {
     }
 
+    private static boolean isOverridden(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes).getDeclaringClass() != MethodCallListener.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static boolean overrides(MethodCallListener listener, int callback) {
+        return (OVERRIDDEN_CALLBACKS.get(listener.getClass()) & callback) != 0;
+    }
+
     /**
      * A magic method used to wrap public method calls in classes
      * patched by ByteBuddy and acting as proxies. The performance
      * of this method is mission-critical as it gets called upon
      * every invocation of any method of the proxied class.
+     * Callbacks, which are not overridden by listener classes, are skipped.
      *
      * @param self     The reference to the original instance.
      * @param method   The reference to the original method.
@@ -60,7 +93,11 @@ public class Interceptor {
             return callable.call();
         }
 
+        var beforeCallSpan = FlightRecorderEvents.beginProxyListeners();
         for (var listener : listeners) {
+            if (!overrides(listener, BEFORE_CALL)) {
+                continue;
+            }
             try {
                 listener.beforeCall(self, method, args);
             } catch (NotImplementedException e) {
@@ -72,8 +109,13 @@ public class Interceptor {
             }
         }
 
+        beforeCallSpan.complete(self, method, "beforeCall");
+
         Object result = UNSET;
         for (var listener : listeners) {
+            if (!overrides(listener, CALL)) {
+                continue;
+            }
             try {
                 result = listener.call(self, method, args, callable);
                 if (result != UNSET) {
@@ -82,13 +124,15 @@ public class Interceptor {
             } catch (NotImplementedException e) {
                 // ignore
             } catch (Exception e) {
-                try {
-                    result = listener.onError(self, method, args, e);
-                    if (result != UNSET) {
-                        return result;
+                if (overrides(listener, ON_ERROR)) {
+                    try {
+                        result = listener.onError(self, method, args, e);
+                        if (result != UNSET) {
+                            return result;
+                        }
+                    } catch (NotImplementedException ignore) {
+                        // ignore
                     }
-                } catch (NotImplementedException ignore) {
-                    // ignore
                 }
                 throw e;
             }
@@ -98,6 +142,9 @@ public class Interceptor {
                 result = callable.call();
             } catch (Exception e) {
                 for (var listener : listeners) {
+                    if (!overrides(listener, ON_ERROR)) {
+                        continue;
+                    }
                     try {
                         result = listener.onError(self, method, args, e);
                         if (result != UNSET) {
@@ -112,7 +159,11 @@ public class Interceptor {
         }
 
         final Object endResult = result == UNSET ? null : result;
+        var afterCallSpan = FlightRecorderEvents.beginProxyListeners();
         for (var listener : listeners) {
+            if (!overrides(listener, AFTER_CALL)) {
+                continue;
+            }
             try {
                 listener.afterCall(self, method, args, endResult);
             } catch (NotImplementedException e) {
@@ -123,6 +174,7 @@ public class Interceptor {
                 );
             }
         }
+        afterCallSpan.complete(self, method, "afterCall");
         return endResult;
     }
 }
@@ -16,5 +16,14 @@
 
 package io.appium.java_client.proxy;
 
+/**
+ * Could be thrown by {@link MethodCallListener} callbacks to let the proxy skip them.
+ * The exception does not capture the stack trace, since it is only used for the control flow.
+ */
 public class NotImplementedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public NotImplementedException() {
+        super(null, null, false, false);
+    }
 }
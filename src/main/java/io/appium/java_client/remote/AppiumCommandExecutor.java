@@ -20,6 +20,7 @@ import com.google.common.base.Throwables;
 import io.appium.java_client.AppiumClientConfig;
 import io.appium.java_client.internal.DirectConnectUrlSafety;
 import io.appium.java_client.internal.ReflectionHelpers;
+import io.appium.java_client.internal.jfr.FlightRecorderEvents;
 import lombok.Getter;
 import org.jspecify.annotations.NullMarked;
 import org.jspecify.annotations.Nullable;
@@ -41,25 +42,37 @@ import org.openqa.selenium.remote.http.HttpClient.Factory;
 import org.openqa.selenium.remote.http.HttpRequest;
 import org.openqa.selenium.remote.http.HttpResponse;
 import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-import static com.google.common.base.Throwables.throwIfUnchecked;
+import static com.google.common.base.Throwables.throwIfInstanceOf;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
 import static org.openqa.selenium.remote.DriverCommand.NEW_SESSION;
 
 @NullMarked
 public class AppiumCommandExecutor extends HttpCommandExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(AppiumCommandExecutor.class);
 
     private final Optional<DriverService> serviceOptional;
     @Getter
     private final AppiumClientConfig appiumClientConfig;
+    @Getter
+    private final ElementLookupCache elementLookupCache = new ElementLookupCache();
+    @Getter
+    private final ContextTracker contextTracker = new ContextTracker();
+    private final List<CommandTracer> commandTracers = new CopyOnWriteArrayList<>();
 
     /**
      * Create an AppiumCommandExecutor instance.
@@ -141,11 +154,25 @@ public class AppiumCommandExecutor extends HttpCommandExecutor {
     }
 
     public void setCommandCodec(CommandCodec<HttpRequest> newCodec) {
-        this.commandCodec = newCodec;
+        this.commandCodec = CommandPhaseTimer.wrap(newCodec);
     }
 
     public void setResponseCodec(ResponseCodec<HttpResponse> codec) {
-        this.responseCodec = codec;
+        this.responseCodec = CommandPhaseTimer.wrap(codec);
+    }
+
+    /**
+     * Registers the tracer, which is notified about each command executed by this executor.
+     * Commands are only timed if at least one tracer is registered.
+     *
+     * @param tracer the tracer to add, for example {@link CommandMetrics}
+     */
+    public void addCommandTracer(CommandTracer tracer) {
+        commandTracers.add(requireNonNull(tracer));
+    }
+
+    public boolean removeCommandTracer(CommandTracer tracer) {
+        return commandTracers.remove(tracer);
     }
 
     protected HttpClient getClient() {
@@ -239,26 +266,164 @@ public class AppiumCommandExecutor extends HttpCommandExecutor {
             });
         }
 
+        var span = FlightRecorderEvents.beginCommand();
+        @Nullable CommandPhaseTimer timer = null;
+        if (!commandTracers.isEmpty() || span.isEnabled()) {
+            commandTracers.forEach(tracer -> notifyTracer(() -> tracer.beforeCommand(command)));
+            timer = CommandPhaseTimer.start();
+        }
+        @Nullable Response response = null;
+        @Nullable Throwable error = null;
         try {
-            return NEW_SESSION.equals(command.getName()) ? createSession(command) : super.execute(command);
+            response = NEW_SESSION.equals(command.getName()) ? createSession(command) : super.execute(command);
+            return response;
         } catch (Throwable t) {
-            Throwable rootCause = Throwables.getRootCause(t);
-            if (rootCause instanceof ConnectException
-                    && rootCause.getMessage().contains("Connection refused")) {
-                throw serviceOptional.map(service -> {
-                    if (service.isRunning()) {
-                        return new WebDriverException("The session is closed!", rootCause);
-                    }
-
-                    return new WebDriverException("The appium server has accidentally died!", rootCause);
-                }).orElseGet(() -> new WebDriverException(rootCause.getMessage(), rootCause));
-            }
-            throwIfUnchecked(t);
-            throw new WebDriverException(t);
+            var webDriverException = toWebDriverException(t);
+            error = webDriverException;
+            throw webDriverException;
         } finally {
+            if (timer != null) {
+                var timing = timer.stop(command, error);
+                commandTracers.forEach(tracer -> notifyTracer(() -> tracer.afterCommand(timing)));
+                span.complete(timing);
+            }
+            onCommandExecuted(command, response);
             if (DriverCommand.QUIT.equals(command.getName())) {
                 serviceOptional.ifPresent(DriverService::stop);
             }
         }
     }
+
+    /**
+     * Updates the session state tracked on the client side (cached element lookups and the current context)
+     * after the command has been executed. This is done automatically for commands sent through this executor,
+     * so the method should only be called for commands sent to the server by other means.
+     *
+     * @param command  the executed command
+     * @param response the command response or null if the command has failed with an exception
+     */
+    public void onCommandExecuted(Command command, @Nullable Response response) {
+        elementLookupCache.onCommand(command.getName());
+        contextTracker.onCommand(command, response);
+    }
+
+    private static void notifyTracer(Runnable notification) {
+        try {
+            notification.run();
+        } catch (RuntimeException e) {
+            // tracers must not break commands execution
+            LOG.warn("Command tracer has failed", e);
+        }
+    }
+
+    /**
+     * Executes the given command without blocking the calling thread.
+     * The request is sent using {@link HttpClient#executeAsync(HttpRequest)}, so no thread
+     * is occupied while waiting for the server response if the underlying
+     * HTTP client supports non-blocking I/O (the default JDK-based client does).
+     * Commands changing the session lifecycle ({@link DriverCommand#NEW_SESSION} and
+     * {@link DriverCommand#QUIT}) are not supported and must be executed with {@link #execute(Command)}.
+     *
+     * @param command the command to execute. The session must already be created.
+     * @return the future, which is completed with the decoded server response
+     *     or exceptionally with {@link WebDriverException}. Encoding, transport and decoding
+     *     failures are wrapped into {@link WebDriverException} if needed. Session lifecycle
+     *     commands fail with {@link IllegalArgumentException}.
+     */
+    public CompletableFuture<Response> executeAsync(Command command) {
+        if (NEW_SESSION.equals(command.getName()) || DriverCommand.QUIT.equals(command.getName())) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException(String.format(
+                    "The '%s' command cannot be executed asynchronously", command.getName())));
+        }
+        var codec = getCommandCodec();
+        if (codec == null) {
+            return CompletableFuture.failedFuture(new WebDriverException(
+                    "The session has not been created yet"));
+        }
+
+        var span = FlightRecorderEvents.beginCommand();
+        var isTraced = !commandTracers.isEmpty() || span.isEnabled();
+        if (isTraced) {
+            commandTracers.forEach(tracer -> notifyTracer(() -> tracer.beforeCommand(command)));
+        }
+        var startedAt = System.nanoTime();
+        HttpRequest request;
+        try {
+            request = codec.encode(command);
+        } catch (Throwable t) {
+            var error = toAsyncWebDriverException(t);
+            if (isTraced) {
+                traceAsync(span, command, System.nanoTime() - startedAt, 0, startedAt, -1, -1, error);
+            }
+            return CompletableFuture.failedFuture(error);
+        }
+        var encodeNanos = System.nanoTime() - startedAt;
+        var requestBytes = isTraced ? CommandPhaseTimer.getContentLength(request) : -1;
+        return getClient().executeAsync(request).handle((httpResponse, error) -> {
+            var receivedAt = System.nanoTime();
+            if (error != null) {
+                onCommandExecuted(command, null);
+                var webDriverException = toAsyncWebDriverException(
+                        error instanceof CompletionException ? error.getCause() : error);
+                if (isTraced) {
+                    traceAsync(span, command, encodeNanos, 0, startedAt,
+                            requestBytes, -1, webDriverException);
+                }
+                throw webDriverException;
+            }
+            @Nullable Response response = null;
+            @Nullable Throwable decodeError = null;
+            try {
+                response = responseCodec.decode(httpResponse);
+                if (response.getSessionId() == null && command.getSessionId() != null) {
+                    response.setSessionId(command.getSessionId().toString());
+                }
+                return response;
+            } catch (Throwable t) {
+                var webDriverException = toAsyncWebDriverException(t);
+                decodeError = webDriverException;
+                throw webDriverException;
+            } finally {
+                onCommandExecuted(command, response);
+                if (isTraced) {
+                    traceAsync(span, command, encodeNanos, System.nanoTime() - receivedAt, startedAt,
+                            requestBytes, CommandPhaseTimer.getContentLength(httpResponse), decodeError);
+                }
+            }
+        });
+    }
+
+    private void traceAsync(FlightRecorderEvents.CommandSpan span, Command command, long encodeNanos, long decodeNanos,
+                            long startedAt, long requestBytes, long responseBytes, @Nullable Throwable error) {
+        var timing = new CommandTiming(command, encodeNanos, decodeNanos, System.nanoTime() - startedAt,
+                requestBytes, responseBytes, error);
+        commandTracers.forEach(tracer -> notifyTracer(() -> tracer.afterCommand(timing)));
+        span.complete(timing);
+    }
+
+    /**
+     * Unlike {@link #toWebDriverException(Throwable)}, which keeps unchecked exceptions
+     * thrown by the synchronous execution as is, wraps them, so asynchronous callers
+     * only need to handle {@link WebDriverException}.
+     */
+    private WebDriverException toAsyncWebDriverException(Throwable t) {
+        var e = toWebDriverException(t);
+        return e instanceof WebDriverException ? (WebDriverException) e : new WebDriverException(e);
+    }
+
+    private RuntimeException toWebDriverException(Throwable t) {
+        Throwable rootCause = Throwables.getRootCause(t);
+        if (rootCause instanceof ConnectException
+                && rootCause.getMessage().contains("Connection refused")) {
+            return serviceOptional.map(service -> {
+                if (service.isRunning()) {
+                    return new WebDriverException("The session is closed!", rootCause);
+                }
+
+                return new WebDriverException("The appium server has accidentally died!", rootCause);
+            }).orElseGet(() -> new WebDriverException(rootCause.getMessage(), rootCause));
+        }
+        throwIfInstanceOf(t, Error.class);
+        return t instanceof RuntimeException ? (RuntimeException) t : new WebDriverException(t);
+    }
 }
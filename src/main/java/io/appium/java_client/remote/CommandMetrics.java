@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Locale.ROOT;
+
+/**
+ * Collects per-command latency histograms of commands executed by {@link AppiumCommandExecutor}.
+ * Usage example:
+ * <pre>
+ * var metrics = new CommandMetrics();
+ * ((AppiumCommandExecutor) driver.getCommandExecutor()).addCommandTracer(metrics);
+ * ...
+ * metrics.logSummary(LoggerFactory.getLogger("appium.metrics"));
+ * </pre>
+ * Collected histograms could be exported into other metric registries via {@link #exportTo(Exporter)}.
+ * Registries, which aggregate individual measurements themselves, should rather be fed
+ * by a custom {@link CommandTracer}.
+ */
+public class CommandMetrics implements CommandTracer {
+    private static final double[] SUMMARY_PERCENTILES = {50, 90, 99};
+
+    private final Map<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+
+    public enum Phase {
+        ENCODE, HTTP, DECODE, TOTAL
+    }
+
+    /**
+     * Receives histograms of all recorded commands.
+     */
+    @FunctionalInterface
+    public interface Exporter {
+        /**
+         * Exports the given histogram.
+         *
+         * @param commandName the name of the command
+         * @param phase       the command phase
+         * @param histogram   the histogram of the command phase latency
+         */
+        void export(String commandName, Phase phase, LatencyHistogram histogram);
+    }
+
+    @Override
+    public void afterCommand(CommandTiming timing) {
+        var commandHistograms = histograms.computeIfAbsent(timing.getCommandName(), name -> {
+            var result = new LatencyHistogram[Phase.values().length];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = new LatencyHistogram();
+            }
+            return result;
+        });
+        commandHistograms[Phase.ENCODE.ordinal()].record(timing.getEncodeNanos());
+        commandHistograms[Phase.HTTP.ordinal()].record(timing.getHttpNanos());
+        commandHistograms[Phase.DECODE.ordinal()].record(timing.getDecodeNanos());
+        commandHistograms[Phase.TOTAL.ordinal()].record(timing.getTotalNanos());
+    }
+
+    public Set<String> getCommandNames() {
+        return Set.copyOf(histograms.keySet());
+    }
+
+    @Nullable
+    public LatencyHistogram getHistogram(String commandName, Phase phase) {
+        var commandHistograms = histograms.get(commandName);
+        return commandHistograms == null ? null : commandHistograms[phase.ordinal()];
+    }
+
+    /**
+     * Passes histograms of all recorded commands to the given exporter.
+     *
+     * @param exporter the exporter instance
+     */
+    public void exportTo(Exporter exporter) {
+        new TreeMap<>(histograms).forEach((commandName, commandHistograms) -> {
+            for (var phase : Phase.values()) {
+                exporter.export(commandName, phase, commandHistograms[phase.ordinal()]);
+            }
+        });
+    }
+
+    /**
+     * Logs a single line summary per recorded command with the INFO level.
+     *
+     * @param logger the logger to log the summary to
+     */
+    public void logSummary(Logger logger) {
+        new TreeMap<>(histograms).forEach((commandName, commandHistograms) -> {
+            var total = commandHistograms[Phase.TOTAL.ordinal()];
+            logger.info(String.format("%s: count=%d, total %s, encode %s, http %s, decode %s",
+                    commandName, total.getCount(),
+                    formatSummary(total),
+                    formatSummary(commandHistograms[Phase.ENCODE.ordinal()]),
+                    formatSummary(commandHistograms[Phase.HTTP.ordinal()]),
+                    formatSummary(commandHistograms[Phase.DECODE.ordinal()])
+            ));
+        });
+    }
+
+    /**
+     * Serializes statistics of all recorded commands to JSON. Durations are in milliseconds.
+     *
+     * @return the JSON object, whose keys are command names
+     */
+    public String toJson() {
+        var result = new TreeMap<String, Object>();
+        new TreeMap<>(histograms).forEach((commandName, commandHistograms) -> {
+            var phases = new LinkedHashMap<String, Object>();
+            phases.put("count", commandHistograms[Phase.TOTAL.ordinal()].getCount());
+            for (var phase : Phase.values()) {
+                var histogram = commandHistograms[phase.ordinal()];
+                var stats = new LinkedHashMap<String, Object>();
+                stats.put("mean", toMillis(histogram.getMean()));
+                for (var percentile : SUMMARY_PERCENTILES) {
+                    stats.put(String.format("p%.0f", percentile), toMillis(histogram.getPercentile(percentile)));
+                }
+                stats.put("max", toMillis(histogram.getMax()));
+                phases.put(phase.name().toLowerCase(ROOT), stats);
+            }
+            result.put(commandName, phases);
+        });
+        return new Json().toJson(result);
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    private static String formatSummary(LatencyHistogram histogram) {
+        var result = new StringBuilder();
+        for (var percentile : SUMMARY_PERCENTILES) {
+            result.append(String.format("p%.0f=%.1fms ", percentile, toMillis(histogram.getPercentile(percentile))));
+        }
+        return result.append(String.format("max=%.1fms", toMillis(histogram.getMax()))).toString();
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
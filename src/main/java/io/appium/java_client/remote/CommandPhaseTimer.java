@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandCodec;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.ResponseCodec;
+import org.openqa.selenium.remote.http.HttpMessage;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.util.function.Supplier;
+
+/**
+ * Measures time spent in codecs while a command is executed by the current thread.
+ * {@link org.openqa.selenium.remote.HttpCommandExecutor} encodes the command, sends it and
+ * decodes the response in a single method, so its codecs are wrapped in order to tell these phases apart.
+ * Wrapped codecs only read the clock if timing has been started for the current thread.
+ */
+class CommandPhaseTimer {
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final ThreadLocal<CommandPhaseTimer> CURRENT = new ThreadLocal<>();
+
+    @Nullable
+    private final CommandPhaseTimer previous;
+    private final long startedAt = System.nanoTime();
+    private long encodeNanos;
+    private long decodeNanos;
+    private long requestBytes = -1;
+    private long responseBytes = -1;
+
+    private CommandPhaseTimer(@Nullable CommandPhaseTimer previous) {
+        this.previous = previous;
+    }
+
+    static CommandPhaseTimer start() {
+        var timer = new CommandPhaseTimer(CURRENT.get());
+        CURRENT.set(timer);
+        return timer;
+    }
+
+    CommandTiming stop(Command command, @Nullable Throwable error) {
+        var totalNanos = System.nanoTime() - startedAt;
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+        return new CommandTiming(command, encodeNanos, decodeNanos, totalNanos, requestBytes, responseBytes, error);
+    }
+
+    static long getContentLength(HttpMessage<?> message) {
+        var header = message.getHeader(CONTENT_LENGTH);
+        if (header == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    static CommandCodec<HttpRequest> wrap(CommandCodec<HttpRequest> codec) {
+        return codec instanceof TimedCommandCodec ? codec : new TimedCommandCodec(codec);
+    }
+
+    static ResponseCodec<HttpResponse> wrap(ResponseCodec<HttpResponse> codec) {
+        return codec instanceof TimedResponseCodec ? codec : new TimedResponseCodec(codec);
+    }
+
+    private static final class TimedCommandCodec implements CommandCodec<HttpRequest> {
+        private final CommandCodec<HttpRequest> delegate;
+
+        private TimedCommandCodec(CommandCodec<HttpRequest> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpRequest encode(Command command) {
+            var timer = CURRENT.get();
+            if (timer == null) {
+                return delegate.encode(command);
+            }
+            var start = System.nanoTime();
+            try {
+                var request = delegate.encode(command);
+                timer.requestBytes = getContentLength(request);
+                return request;
+            } finally {
+                timer.encodeNanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public Command decode(HttpRequest encodedCommand) {
+            return delegate.decode(encodedCommand);
+        }
+
+        @Override
+        public void defineCommand(String name, HttpMethod method, String pathPattern) {
+            delegate.defineCommand(name, method, pathPattern);
+        }
+
+        @Override
+        public void alias(String commandName, String isAnAliasFor) {
+            delegate.alias(commandName, isAnAliasFor);
+        }
+    }
+
+    private static final class TimedResponseCodec implements ResponseCodec<HttpResponse> {
+        private final ResponseCodec<HttpResponse> delegate;
+
+        private TimedResponseCodec(ResponseCodec<HttpResponse> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpResponse encode(Supplier<HttpResponse> factory, Response response) {
+            return delegate.encode(factory, response);
+        }
+
+        @Override
+        public Response decode(HttpResponse encodedResponse) {
+            var timer = CURRENT.get();
+            if (timer == null) {
+                return delegate.decode(encodedResponse);
+            }
+            timer.responseBytes = getContentLength(encodedResponse);
+            var start = System.nanoTime();
+            try {
+                return delegate.decode(encodedResponse);
+            } finally {
+                timer.decodeNanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
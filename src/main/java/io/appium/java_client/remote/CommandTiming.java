@@ -0,0 +1,67 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.remote.Command;
+
+import java.time.Duration;
+
+/**
+ * Client-side latency of a single command split into phases.
+ * The HTTP phase is the remaining part of the total time, so it includes
+ * HTTP client filters and the network round trip along with the server processing time.
+ * The new session command is not split, since it is encoded and decoded by the protocol handshake.
+ * Body sizes are taken from Content-Length headers and are -1 if unknown.
+ */
+@Getter
+public class CommandTiming {
+    private final Command command;
+    private final long encodeNanos;
+    private final long httpNanos;
+    private final long decodeNanos;
+    private final long totalNanos;
+    private final long requestBytes;
+    private final long responseBytes;
+    @Nullable
+    private final Throwable error;
+
+    CommandTiming(Command command, long encodeNanos, long decodeNanos, long totalNanos,
+                  long requestBytes, long responseBytes, @Nullable Throwable error) {
+        this.command = command;
+        this.encodeNanos = encodeNanos;
+        this.decodeNanos = decodeNanos;
+        this.totalNanos = totalNanos;
+        this.httpNanos = Math.max(0, totalNanos - encodeNanos - decodeNanos);
+        this.requestBytes = requestBytes;
+        this.responseBytes = responseBytes;
+        this.error = error;
+    }
+
+    public String getCommandName() {
+        return command.getName();
+    }
+
+    public Duration getTotal() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    public boolean isSuccessful() {
+        return error == null;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import org.openqa.selenium.remote.Command;
+
+/**
+ * Receives notifications about commands executed by {@link AppiumCommandExecutor}.
+ * Tracers are only invoked if registered via {@link AppiumCommandExecutor#addCommandTracer(CommandTracer)},
+ * so commands are not timed at all if there are no tracers
+ * (unless the {@code io.appium.Command} flight recorder event is enabled).
+ * Both methods of synchronous commands are called by the thread executing the command,
+ * which makes it possible to correlate commands with test steps using thread-bound state
+ * (for example, the currently active span of a tracing library). Asynchronous commands
+ * are finished by the threads of the HTTP client. Implementations must be thread-safe and fast.
+ */
+public interface CommandTracer {
+    /**
+     * Is called before the command is sent to the server.
+     *
+     * @param command the command to be executed
+     */
+    default void beforeCommand(Command command) {
+    }
+
+    /**
+     * Is called after the command has been executed, either successfully or not.
+     *
+     * @param timing the command timing details
+     */
+    default void afterCommand(CommandTiming timing) {
+    }
+}
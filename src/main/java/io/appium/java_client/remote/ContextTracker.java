@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import io.appium.java_client.MobileCommand;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Tracks the current context of the session on the client side, so
+ * {@link SupportsContextSwitching#getContext()} does not need to request it from the server each time.
+ * The context is learned from responses to context switching and retrieval commands.
+ * It is forgotten once a command fails or a command, which may implicitly change the context
+ * (session creation, app management, mobile extensions, driver scripts), is executed.
+ * The next {@link SupportsContextSwitching#getContext()} call then requests the context from the server again.
+ */
+public class ContextTracker {
+    // Names of the protected MobileCommand constants are repeated here on purpose,
+    // so that the deprecated constants do not have to become a part of the public API
+    private static final Set<String> CONTEXT_RESETTING_COMMANDS = Set.of(
+            DriverCommand.NEW_SESSION,
+            DriverCommand.QUIT,
+            MobileCommand.RUN_APP_IN_BACKGROUND,
+            MobileCommand.LAUNCH_APP,
+            MobileCommand.CLOSE_APP,
+            "executeDriverScript",
+            "reset",
+            "activateApp",
+            "terminateApp",
+            "removeApp",
+            "installApp",
+            "startActivity"
+    );
+    private static final Set<String> SCRIPT_COMMANDS = Set.of(
+            DriverCommand.EXECUTE_SCRIPT,
+            DriverCommand.EXECUTE_ASYNC_SCRIPT
+    );
+
+    @Nullable
+    private volatile String context;
+
+    /**
+     * Gets the context name known on the client side.
+     *
+     * @return the current context name or an empty optional if it has to be requested from the server
+     */
+    public Optional<String> getContext() {
+        return Optional.ofNullable(context);
+    }
+
+    /**
+     * Forgets the current context name.
+     */
+    public void invalidate() {
+        context = null;
+    }
+
+    /**
+     * Updates the tracked context according to the executed command.
+     *
+     * @param command  the executed command
+     * @param response the command response or null if the command has failed with an exception
+     */
+    public void onCommand(Command command, @Nullable Response response) {
+        var name = command.getName();
+        if (response == null || isFailed(response) || CONTEXT_RESETTING_COMMANDS.contains(name)) {
+            invalidate();
+        } else if (MobileCommand.SWITCH_TO_CONTEXT.equals(name)) {
+            var contextName = command.getParameters().get("name");
+            context = contextName instanceof String ? (String) contextName : null;
+        } else if (MobileCommand.GET_CURRENT_CONTEXT_HANDLE.equals(name)) {
+            context = response.getValue() instanceof String ? (String) response.getValue() : null;
+        } else if (SCRIPT_COMMANDS.contains(name)
+                && String.valueOf(command.getParameters().get("script")).startsWith("mobile:")) {
+            invalidate();
+        }
+    }
+
+    private static boolean isFailed(Response response) {
+        var status = response.getStatus();
+        return response.getValue() instanceof Throwable || (status != null && status != 0);
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import io.appium.java_client.MobileCommand;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.remote.DriverCommand;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Session-scoped cache of element lookup results, which is used by page objects
+ * for fields marked with {@link org.openqa.selenium.support.CacheLookup}.
+ * Entries are keyed by the locator and the search context instance the lookup was made from.
+ * All entries are invalidated as soon as a command, which may change the state of
+ * the application under test (click, send keys, navigation, app management, context switch, scripts, etc.),
+ * is executed in scope of the same session. Only commands that are known to be read-only keep the cache intact.
+ */
+public class ElementLookupCache {
+    private static final int MAX_SIZE = 1024;
+    private static final Set<String> READ_ONLY_COMMANDS = Set.of(
+            DriverCommand.FIND_ELEMENT,
+            DriverCommand.FIND_ELEMENTS,
+            DriverCommand.FIND_CHILD_ELEMENT,
+            DriverCommand.FIND_CHILD_ELEMENTS,
+            DriverCommand.GET_ELEMENT_ATTRIBUTE,
+            DriverCommand.GET_ELEMENT_TEXT,
+            DriverCommand.GET_ELEMENT_TAG_NAME,
+            DriverCommand.GET_ELEMENT_RECT,
+            DriverCommand.GET_ELEMENT_LOCATION,
+            DriverCommand.GET_ELEMENT_SIZE,
+            DriverCommand.IS_ELEMENT_DISPLAYED,
+            DriverCommand.IS_ELEMENT_ENABLED,
+            DriverCommand.IS_ELEMENT_SELECTED,
+            DriverCommand.GET_PAGE_SOURCE,
+            DriverCommand.SCREENSHOT,
+            DriverCommand.ELEMENT_SCREENSHOT,
+            DriverCommand.GET_CURRENT_URL,
+            DriverCommand.GET_TITLE,
+            DriverCommand.STATUS,
+            MobileCommand.GET_CONTEXT_HANDLES,
+            MobileCommand.GET_CURRENT_CONTEXT_HANDLE,
+            MobileCommand.GET_SCREEN_ORIENTATION,
+            MobileCommand.GET_SCREEN_ROTATION,
+            MobileCommand.GET_LOCATION
+    );
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Returns the current cache generation. The value must be retrieved before
+     * the actual lookup is started and then passed to {@link #putElement} or {@link #putElements},
+     * so lookup results that have been obtained while the cache was being invalidated are not stored.
+     *
+     * @return the current generation number
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * Invalidates all cache entries.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * Notifies the cache about the command that has been executed in scope of the session.
+     * The cache is invalidated unless the command is known to be read-only.
+     *
+     * @param commandName the name of the executed command
+     */
+    public void onCommand(String commandName) {
+        if (!READ_ONLY_COMMANDS.contains(commandName)) {
+            invalidate();
+        }
+    }
+
+    @Nullable
+    public WebElement getElement(SearchContext searchContext, By by) {
+        return (WebElement) get(new Key(searchContext, by, false));
+    }
+
+    @Nullable
+    public List<WebElement> getElements(SearchContext searchContext, By by) {
+        //noinspection unchecked
+        return (List<WebElement>) get(new Key(searchContext, by, true));
+    }
+
+    public void putElement(SearchContext searchContext, By by, WebElement element, long generation) {
+        put(new Key(searchContext, by, false), element, generation);
+    }
+
+    public void putElements(SearchContext searchContext, By by, List<WebElement> elements, long generation) {
+        put(new Key(searchContext, by, true), List.copyOf(elements), generation);
+    }
+
+    @Nullable
+    private Object get(Key key) {
+        var entry = entries.get(key);
+        return entry == null || entry.generation != generation.get() ? null : entry.value;
+    }
+
+    private void put(Key key, Object value, long lookupGeneration) {
+        if (lookupGeneration != generation.get()) {
+            return;
+        }
+        if (entries.size() >= MAX_SIZE) {
+            entries.clear();
+        }
+        entries.put(key, new Entry(value, lookupGeneration));
+    }
+
+    private static final class Entry {
+        private final Object value;
+        private final long generation;
+
+        private Entry(Object value, long generation) {
+            this.value = value;
+            this.generation = generation;
+        }
+    }
+
+    private static final class Key {
+        private final SearchContext searchContext;
+        private final By by;
+        private final boolean isList;
+
+        private Key(SearchContext searchContext, By by, boolean isList) {
+            this.searchContext = searchContext;
+            this.by = by;
+            this.isList = isList;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            var other = (Key) o;
+            // search contexts are compared by identity, since proxies may override equals
+            return searchContext == other.searchContext && isList == other.isList && by.equals(other.by);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * System.identityHashCode(searchContext) + by.hashCode()) + Boolean.hashCode(isList);
+        }
+    }
+}
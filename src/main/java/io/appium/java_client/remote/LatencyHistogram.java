@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Lock-free latency histogram with log-linear buckets, similar to HdrHistogram.
+ * Values are recorded with microsecond resolution and the relative error
+ * of about 3% (32 linear sub-buckets per power of two) up to about 19 hours.
+ * Larger values are recorded into the last bucket. Recording never allocates,
+ * so it is cheap enough to be done for each executed command.
+ * Statistics are calculated from the current counters without stopping recording threads,
+ * so they might not include values recorded concurrently.
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final long MAX_VALUE = (1L << 36) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records the given duration.
+     *
+     * @param nanos the duration in nanoseconds. Negative values are recorded as zero.
+     */
+    public void record(long nanos) {
+        var micros = Math.min(MAX_VALUE, Math.max(0, nanos / 1000));
+        counts.incrementAndGet(indexOf(micros));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public Duration getMax() {
+        return Duration.ofNanos(maxMicros.get() * 1000);
+    }
+
+    /**
+     * Calculates the mean of recorded values.
+     *
+     * @return the mean value or zero if nothing has been recorded
+     */
+    public Duration getMean() {
+        var count = totalCount.get();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalMicros.get() * 1000 / count);
+    }
+
+    /**
+     * Calculates the value at the given percentile.
+     *
+     * @param percentile the percentile in range [0, 100]
+     * @return the highest value, which is equivalent to the value at the given percentile
+     *     in scope of the histogram precision, or zero if nothing has been recorded
+     */
+    public Duration getPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "The percentile must be in range [0, 100]");
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return Duration.ZERO;
+        }
+        var targetCount = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+            if (count >= targetCount) {
+                return Duration.ofNanos(Math.min(highestValueOf(i), maxMicros.get()) * 1000);
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        totalMicros.set(0);
+        maxMicros.set(0);
+    }
+
+    private static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        var shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        var shift = index / SUB_BUCKET_COUNT - 1;
+        long mantissa = index - (long) shift * SUB_BUCKET_COUNT;
+        return ((mantissa + 1) << shift) - 1;
+    }
+}
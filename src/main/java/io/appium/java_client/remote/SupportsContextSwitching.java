@@ -22,6 +22,7 @@ import io.appium.java_client.NoSuchContextException;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.Response;
 
 import java.util.LinkedHashSet;
@@ -68,11 +69,21 @@ public interface SupportsContextSwitching extends WebDriver, ExecutesMethod {
 
     /**
      * Get the name of the current context.
+     * If the driver uses {@link AppiumCommandExecutor} then the context name, which is already known from
+     * previous context-related commands, is returned without a server request (see {@link ContextTracker}).
      *
      * @return Context name or null if it cannot be determined.
      */
     @Nullable
     default String getContext() {
+        if (this instanceof RemoteWebDriver
+                && ((RemoteWebDriver) this).getCommandExecutor() instanceof AppiumCommandExecutor) {
+            var trackedContext = ((AppiumCommandExecutor) ((RemoteWebDriver) this).getCommandExecutor())
+                    .getContextTracker().getContext();
+            if (trackedContext.isPresent()) {
+                return trackedContext.get();
+            }
+        }
         String contextName =
                 String.valueOf(execute(MobileCommand.GET_CURRENT_CONTEXT_HANDLE).getValue());
         return "null".equalsIgnoreCase(contextName) ? null : contextName;
@@ -16,6 +16,8 @@
 
 package io.appium.java_client.service.local;
 
+import io.appium.java_client.internal.VirtualThreads;
+import io.appium.java_client.internal.jfr.FlightRecorderEvents;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.jspecify.annotations.Nullable;
@@ -23,18 +25,26 @@ import org.openqa.selenium.os.ExternalProcess;
 import org.openqa.selenium.remote.service.DriverService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.slf4j.event.Level;
 
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -58,6 +68,13 @@ public final class AppiumDriverLocalService extends DriverService {
     private static final String APPIUM_SERVICE_SLF4J_LOGGER_PREFIX = "appium.service";
     private static final Duration DESTROY_TIMEOUT = Duration.ofSeconds(60);
     private static final Duration IS_RUNNING_PING_TIMEOUT = Duration.ofMillis(1500);
+    private static final String SERVER_READY_MESSAGE = "listener started";
+    private static final int MAX_PENDING_LOG_MESSAGES = 10_000;
+    private static final int MAX_CACHED_LOG_CONTEXTS = 1024;
+    private static final Slf4jLogMessageContext DEFAULT_LOG_CONTEXT =
+            new Slf4jLogMessageContext(APPIUM_SERVICE_SLF4J_LOGGER_PREFIX, INFO);
+    // log message prefix (e.g. "[debug] [ADB]") -> parsed context
+    private static final Map<String, Slf4jLogMessageContext> LOG_CONTEXTS = new ConcurrentHashMap<>();
 
     private final File nodeJSExec;
     private final List<String> nodeJSArgs;
@@ -65,12 +82,33 @@ public final class AppiumDriverLocalService extends DriverService {
     private final Duration startupTimeout;
     private final ReentrantLock lock = new ReentrantLock(true); //uses "fair" thread ordering policy
     private final ListOutputStream stream = new ListOutputStream().add(System.out);
+    private final List<Consumer<String>> logMessageConsumers = new CopyOnWriteArrayList<>();
+    private final AtomicLong droppedLogMessagesCount = new AtomicLong();
+    private final LineSplittingOutputStream logMessagesStream =
+            new LineSplittingOutputStream(this::dispatchLogMessage, Charset.defaultCharset());
+    /**
+     * Log message consumers are invoked by a separate thread, so slow consumers do not
+     * slow down the server process via the output pipe. The oldest pending messages are dropped
+     * if consumers cannot keep up with the server output.
+     */
+    private final ExecutorService logMessagesDispatcher = new ThreadPoolExecutor(
+            0, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_PENDING_LOG_MESSAGES),
+            VirtualThreads.newThreadFactory("appium-service-log"),
+            (task, executor) -> {
+                if (droppedLogMessagesCount.getAndIncrement() == 0) {
+                    LOG.warn("Server log message consumers cannot keep up with the server output. "
+                            + "The oldest pending messages are dropped");
+                }
+                executor.getQueue().poll();
+                executor.execute(task);
+            }
+    );
     private final AppiumServerAvailabilityChecker availabilityChecker = new AppiumServerAvailabilityChecker();
     private final URL url;
     @Getter
     private String basePath;
 
-    private ExternalProcess process = null;
+    private volatile ExternalProcess process = null;
 
     AppiumDriverLocalService(String ipAddress, File nodeJSExec,
                              int nodeJSPort, Duration startupTimeout,
@@ -138,29 +176,32 @@ public final class AppiumDriverLocalService extends DriverService {
 
     @Override
     public boolean isRunning() {
-        lock.lock();
-        try {
-            if (process == null || !process.isAlive()) {
-                return false;
-            }
+        // The lock is deliberately not acquired here, since the ping below may block
+        // for a while and would otherwise serialize all callers (including the ones
+        // starting or stopping the service)
+        var currentProcess = process;
+        if (currentProcess == null || !currentProcess.isAlive()) {
+            return false;
+        }
 
-            try {
-                return ping(IS_RUNNING_PING_TIMEOUT);
-            } catch (AppiumServerAvailabilityChecker.ConnectionTimeout
-                     | AppiumServerAvailabilityChecker.ConnectionError e) {
-                return false;
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-        } finally {
-            lock.unlock();
+        try {
+            return ping(IS_RUNNING_PING_TIMEOUT);
+        } catch (AppiumServerAvailabilityChecker.ConnectionTimeout
+                 | AppiumServerAvailabilityChecker.ConnectionError e) {
+            return false;
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
         }
     }
 
     private boolean ping(Duration timeout) throws InterruptedException {
+        return ping(timeout, new CompletableFuture<>());
+    }
+
+    private boolean ping(Duration timeout, Future<?> readinessSignal) throws InterruptedException {
         var baseURL = fixBroadcastAddresses(getUrl());
         var statusUrl = addSuffix(baseURL, "/status");
-        return availabilityChecker.waitUntilAvailable(statusUrl, timeout);
+        return availabilityChecker.waitUntilAvailable(statusUrl, timeout, readinessSignal);
     }
 
     private URL fixBroadcastAddresses(URL url) {
@@ -189,6 +230,17 @@ public final class AppiumDriverLocalService extends DriverService {
                 return;
             }
 
+            // The server logs its listener address as soon as it is ready to accept connections,
+            // so the status endpoint is only polled once more to confirm it. Regular polling
+            // is still used if the message is not logged because of the configured log level.
+            var span = FlightRecorderEvents.beginLocalService();
+            var readinessSignal = new CompletableFuture<Void>();
+            var readinessWatcher = new LineSplittingOutputStream(line -> {
+                if (line.contains(SERVER_READY_MESSAGE)) {
+                    readinessSignal.complete(null);
+                }
+            }, Charset.defaultCharset());
+            stream.add(readinessWatcher);
             try {
                 var processBuilder = ExternalProcess.builder()
                         .command(this.nodeJSExec.getCanonicalPath(), nodeJSArgs)
@@ -196,12 +248,14 @@ public final class AppiumDriverLocalService extends DriverService {
                 nodeJSEnvironment.forEach(processBuilder::environment);
                 process = processBuilder.start();
             } catch (IOException e) {
+                stream.remove(readinessWatcher);
+                span.complete("start", getUrl(), false);
                 throw new AppiumServerHasNotBeenStartedLocallyException(e);
             }
 
             var didPingSucceed = false;
             try {
-                ping(startupTimeout);
+                ping(startupTimeout, readinessSignal);
                 didPingSucceed = true;
             } catch (AppiumServerAvailabilityChecker.ConnectionTimeout
                      | AppiumServerAvailabilityChecker.ConnectionError e) {
@@ -213,9 +267,11 @@ public final class AppiumDriverLocalService extends DriverService {
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
             } finally {
+                stream.remove(readinessWatcher);
                 if (!didPingSucceed) {
                     destroyProcess();
                 }
+                span.complete("start", getUrl(), didPingSucceed);
             }
         } finally {
             lock.unlock();
@@ -270,7 +326,9 @@ public final class AppiumDriverLocalService extends DriverService {
         lock.lock();
         try {
             if (process != null) {
+                var span = FlightRecorderEvents.beginLocalService();
                 destroyProcess();
+                span.complete("stop", getUrl(), true);
             }
             process = null;
         } finally {
@@ -339,10 +397,21 @@ public final class AppiumDriverLocalService extends DriverService {
      *
      * @return true if at least one output stream has been cleared
      */
-    public boolean clearOutPutStreams() {
+    public synchronized boolean clearOutPutStreams() {
+        logMessageConsumers.clear();
         return stream.clear();
     }
 
+    /**
+     * Returns the count of server log messages, which have not been passed to log message consumers,
+     * because they could not keep up with the server output.
+     *
+     * @return the count of dropped log messages
+     */
+    public long getDroppedLogMessagesCount() {
+        return droppedLogMessagesCount.get();
+    }
+
     /**
      * Enables server output data logging through
      * <a href="http://slf4j.org">SLF4J</a> loggers. This allow server output
@@ -422,16 +491,24 @@ public final class AppiumDriverLocalService extends DriverService {
     }
 
     private static Slf4jLogMessageContext parseSlf4jContextFromLogMessage(String logMessage) {
+        if (!logMessage.startsWith("[")) {
+            return DEFAULT_LOG_CONTEXT;
+        }
         Matcher m = LOGGER_CONTEXT_PATTERN.matcher(logMessage);
-        String loggerName = APPIUM_SERVICE_SLF4J_LOGGER_PREFIX;
-        Level level = INFO;
-        if (m.find()) {
-            loggerName += "." + m.group(2).toLowerCase(ROOT).replaceAll("\\s+", "");
-            if (m.group(1) != null) {
-                level = DEBUG;
+        if (!m.find()) {
+            return DEFAULT_LOG_CONTEXT;
+        }
+        var context = LOG_CONTEXTS.get(m.group());
+        if (context == null) {
+            String loggerName = APPIUM_SERVICE_SLF4J_LOGGER_PREFIX + "."
+                    + m.group(2).toLowerCase(ROOT).replaceAll("\\s+", "");
+            context = new Slf4jLogMessageContext(loggerName, m.group(1) == null ? INFO : DEBUG);
+            if (LOG_CONTEXTS.size() >= MAX_CACHED_LOG_CONTEXTS) {
+                LOG_CONTEXTS.clear();
             }
+            LOG_CONTEXTS.put(m.group(), context);
         }
-        return new Slf4jLogMessageContext(loggerName, level);
+        return context;
     }
 
     /**
@@ -443,23 +520,27 @@ public final class AppiumDriverLocalService extends DriverService {
      *
      * <p>If the Consumer fails and throws an exception the exception is logged (at
      * WARN level) and execution continues.
+     *
+     * <p>Consumers are invoked sequentially by a separate thread. If they cannot keep up with
+     * the server output then the oldest pending messages are dropped
+     * (see {@link #getDroppedLogMessagesCount()}).
      * <br>
      *
      * @param consumer Consumer block to be executed when a log message is available.
      */
-    public void addLogMessageConsumer(Consumer<String> consumer) {
+    public synchronized void addLogMessageConsumer(Consumer<String> consumer) {
         requireNonNull(consumer, "consumer parameter is NULL!");
-        addOutPutStream(new OutputStream() {
-            private final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        if (logMessageConsumers.isEmpty()) {
+            addOutPutStream(logMessagesStream);
+        }
+        logMessageConsumers.add(consumer);
+    }
 
-            @Override
-            public void write(int chr) {
+    private void dispatchLogMessage(String logMessage) {
+        logMessagesDispatcher.execute(() -> {
+            for (Consumer<String> consumer : logMessageConsumers) {
                 try {
-                    outputStream.write(chr);
-                    if (chr == '\n') {
-                        consumer.accept(outputStream.toString());
-                        outputStream.reset();
-                    }
+                    consumer.accept(logMessage);
                 } catch (Exception e) {
                     // log error and continue
                     LOG.warn("Log message consumer crashed!", e);
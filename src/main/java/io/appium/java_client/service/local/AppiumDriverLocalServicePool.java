@@ -0,0 +1,172 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.service.local;
+
+import org.openqa.selenium.TimeoutException;
+
+import java.io.Closeable;
+import java.net.URL;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps the given count of local Appium servers started, so drivers could lease an already running
+ * server instead of waiting for the Node.js process to start.
+ * Servers are started in background and checked for health periodically.
+ * A server is recycled (stopped and replaced with a new one) after it has served the configured
+ * count of leases or if it is found to be unhealthy.
+ * Each server is built with a new builder instance provided by the given supplier, so it is recommended
+ * to call {@link AppiumServiceBuilder#usingAnyFreePort()} on it to avoid port conflicts.
+ */
+public class AppiumDriverLocalServicePool implements Closeable {
+    private final ServerPool<PooledService> pool;
+
+    /**
+     * Creates a pool. Servers are not started until {@link #start()} is called.
+     *
+     * @param builderSupplier creates a builder for each server of the pool
+     * @param size            the count of servers to keep started
+     */
+    public AppiumDriverLocalServicePool(Supplier<AppiumServiceBuilder> builderSupplier, int size) {
+        requireNonNull(builderSupplier);
+        this.pool = new ServerPool<>(() -> new PooledService(builderSupplier.get().build()), size);
+    }
+
+    /**
+     * Sets the count of leases after which a server is replaced with a fresh one.
+     * Servers are never recycled because of this limit by default.
+     *
+     * @param maxLeasesPerServer the maximum count of leases per server
+     * @return self instance for chaining
+     */
+    public AppiumDriverLocalServicePool withMaxLeasesPerServer(int maxLeasesPerServer) {
+        pool.withMaxLeasesPerServer(maxLeasesPerServer);
+        return this;
+    }
+
+    /**
+     * Sets the interval of idle servers health checks. It is 30 seconds by default.
+     *
+     * @param healthCheckInterval the interval between health checks
+     * @return self instance for chaining
+     */
+    public AppiumDriverLocalServicePool withHealthCheckInterval(Duration healthCheckInterval) {
+        pool.withHealthCheckInterval(healthCheckInterval);
+        return this;
+    }
+
+    /**
+     * Starts servers of the pool in background. This method does not wait until servers are started.
+     */
+    public void start() {
+        pool.start();
+    }
+
+    /**
+     * Leases a running server. The lease must be closed as soon as the server is not needed anymore.
+     *
+     * @param timeout the maximum duration to wait for a server to become available
+     * @return the lease of a running server
+     * @throws TimeoutException if no server became available in time
+     * @throws IllegalStateException if the pool is not started or has been closed
+     */
+    public Lease acquire(Duration timeout) {
+        return new Lease(pool.acquire(timeout));
+    }
+
+    /**
+     * Returns the count of servers, which are running and not leased.
+     *
+     * @return the count of idle servers
+     */
+    public int getIdleCount() {
+        return pool.getIdleCount();
+    }
+
+    /**
+     * Stops all servers of the pool including the leased ones.
+     */
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    private static final class PooledService implements ServerPool.Server {
+        private final AppiumDriverLocalService service;
+
+        private PooledService(AppiumDriverLocalService service) {
+            this.service = service;
+        }
+
+        @Override
+        public void start() {
+            service.start();
+        }
+
+        @Override
+        public void stop() {
+            service.stop();
+        }
+
+        @Override
+        public boolean isRunning() {
+            return service.isRunning();
+        }
+
+        @Override
+        public URL getUrl() {
+            return service.getUrl();
+        }
+    }
+
+    /**
+     * A running server leased from the pool.
+     */
+    public static final class Lease implements AutoCloseable {
+        private final ServerPool<PooledService>.Lease lease;
+
+        private Lease(ServerPool<PooledService>.Lease lease) {
+            this.lease = lease;
+        }
+
+        public AppiumDriverLocalService getService() {
+            return lease.getServer().service;
+        }
+
+        public URL getUrl() {
+            return lease.getServer().getUrl();
+        }
+
+        /**
+         * Marks the leased server as unhealthy, so it is replaced with a new one
+         * rather than returned to the pool when the lease is closed.
+         */
+        public void markUnhealthy() {
+            lease.markUnhealthy();
+        }
+
+        /**
+         * Returns the server to the pool. Subsequent calls have no effect.
+         */
+        @Override
+        public void close() {
+            lease.close();
+        }
+    }
+}
@@ -29,6 +29,12 @@ import java.time.Instant;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class AppiumServerAvailabilityChecker {
     private static final Duration CONNECT_TIMEOUT = Duration.ofMillis(500);
@@ -52,6 +58,29 @@ public class AppiumServerAvailabilityChecker {
      *         but non-200 error code was received.
      */
     public boolean waitUntilAvailable(URL serverStatusUrl, Duration timeout) throws InterruptedException {
+        return waitUntilAvailable(serverStatusUrl, timeout, new CompletableFuture<>());
+    }
+
+    /**
+     * Verifies a possibility of establishing a connection
+     * to a running Appium server. Pauses between connection attempts are interrupted
+     * as soon as the given readiness signal is completed (for example, when the server
+     * has logged that its listener is started), so the confirming request is sent immediately.
+     * If the signal never completes then the behavior is the same as
+     * of {@link #waitUntilAvailable(URL, Duration)}.
+     *
+     * @param serverStatusUrl The URL of /status endpoint.
+     * @param timeout Wait timeout.
+     * @param readinessSignal The future, which is completed once the server is expected to be ready.
+     * @return true in case of success
+     * @throws InterruptedException If the API is interrupted
+     * @throws ConnectionTimeout If it is not possible to successfully open
+     *         an HTTP connection to the server's /status endpoint.
+     * @throws ConnectionError If an HTTP connection was opened successfully,
+     *         but non-200 error code was received.
+     */
+    public boolean waitUntilAvailable(URL serverStatusUrl, Duration timeout, Future<?> readinessSignal)
+            throws InterruptedException {
         var interval = MIN_POLL_INTERVAL;
         var start = Instant.now();
         IOException lastError = null;
@@ -65,13 +94,25 @@ public class AppiumServerAvailabilityChecker {
             } finally {
                 Optional.ofNullable(connection).ifPresent(HttpURLConnection::disconnect);
             }
-            //noinspection BusyWait
-            Thread.sleep(interval.toMillis());
+            pause(interval, readinessSignal);
             interval = interval.compareTo(MAX_POLL_INTERVAL) >= 0 ? interval : interval.multipliedBy(2);
         }
         throw new ConnectionTimeout(timeout, lastError);
     }
 
+    private static void pause(Duration interval, Future<?> readinessSignal) throws InterruptedException {
+        if (readinessSignal.isDone()) {
+            //noinspection BusyWait
+            Thread.sleep(interval.toMillis());
+            return;
+        }
+        try {
+            readinessSignal.get(interval.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CancellationException | TimeoutException e) {
+            // the signal is only a hint, so the server status is what matters
+        }
+    }
+
     private HttpURLConnection connectToUrl(URL url) throws IOException {
         var connection = (HttpURLConnection) url.openConnection();
         connection.setConnectTimeout((int) CONNECT_TIMEOUT.toMillis());
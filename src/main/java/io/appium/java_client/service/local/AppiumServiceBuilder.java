@@ -44,8 +44,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -72,6 +74,7 @@ public final class AppiumServiceBuilder
     public static final String BROADCAST_IP4_ADDRESS = "0.0.0.0";
     public static final String BROADCAST_IP6_ADDRESS = "::";
     private static final Path APPIUM_PATH_SUFFIX = Paths.get("appium", "build", "lib", "main.js");
+    private static final String MAIN_SCRIPT_CACHE_KEY = "appiumMainScript";
     public static final int DEFAULT_APPIUM_PORT = 4723;
     private final Map<String, String> serverArguments = new HashMap<>();
     private File appiumJS;
@@ -141,8 +144,45 @@ public final class AppiumServiceBuilder
                 "Node Package Manager (npm) is either not installed or its executable is not present in PATH");
     }
 
+    private static Optional<String> getNpmConfigFromEnv(String name) {
+        // npm reads its configuration variables case-insensitively
+        return Stream.of("NPM_CONFIG_" + name.toUpperCase(ROOT), "npm_config_" + name)
+                .map(System::getenv)
+                .filter(value -> !isNullOrEmpty(value))
+                .findFirst();
+    }
+
+    /**
+     * Builds the cache key of the main script path. The global modules root depends on the npm prefix,
+     * which could be overridden by the environment.
+     */
+    private static String getMainScriptCacheKey() {
+        return getNpmConfigFromEnv("prefix")
+                .map(prefix -> MAIN_SCRIPT_CACHE_KEY + "@" + prefix)
+                .orElse(MAIN_SCRIPT_CACHE_KEY);
+    }
+
+    /**
+     * Lists files the global modules root is derived from: the npm executable itself
+     * and the user and project configuration files, where the npm prefix could be changed.
+     */
+    private static List<File> getMainScriptCacheSources(File npm) {
+        var userConfig = getNpmConfigFromEnv("userconfig")
+                .map(File::new)
+                .orElseGet(() -> Paths.get(System.getProperty("user.home"), ".npmrc").toFile());
+        var projectConfig = Paths.get(System.getProperty("user.dir"), ".npmrc").toFile();
+        return List.of(npm, userConfig, projectConfig);
+    }
+
     private static File findMainScript() {
         File npm = findNpm();
+        var cache = BinaryPathsCache.getDefault();
+        var cacheKey = getMainScriptCacheKey();
+        var cacheSources = getMainScriptCacheSources(npm);
+        var cachedMainScript = cache.flatMap(c -> c.get(cacheKey, cacheSources));
+        if (cachedMainScript.isPresent()) {
+            return cachedMainScript.get();
+        }
         List<String> cmdLine = System.getProperty("os.name").toLowerCase(ROOT).contains("win")
                 // npm is a batch script, so on windows we need to use cmd.exe in order to execute it
                 ? Arrays.asList("cmd.exe", "/c", String.format("\"%s\" root -g", npm.getAbsolutePath()))
@@ -159,6 +199,7 @@ public final class AppiumServiceBuilder
         if (!mainAppiumJs.exists()) {
             throw new InvalidServerInstanceException(APPIUM_JS_NOT_EXIST_ERROR.apply(mainAppiumJs));
         }
+        cache.ifPresent(c -> c.put(cacheKey, cacheSources, mainAppiumJs));
         return mainAppiumJs;
     }
 
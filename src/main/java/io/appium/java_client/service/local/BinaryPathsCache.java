@@ -0,0 +1,158 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.service.local;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Small on-disk cache of paths, whose discovery requires spawning external processes
+ * (like `npm root -g`). Each entry is bound to the files it has been derived from (e.g. the npm executable
+ * and its configuration files). An entry is only valid while modification times of all the source files
+ * and of the cached file are the same as they were when the entry has been stored.
+ * Failures to read or write the cache file are ignored.
+ */
+class BinaryPathsCache {
+    /**
+     * System property and environment variable name for the path to the cache file.
+     * The {@value #DISABLED} value turns the cache off.
+     */
+    static final String CACHE_PATH = "APPIUM_BINARY_PATHS_CACHE";
+    static final String DISABLED = "none";
+    private static final String SEPARATOR = "|";
+    private static final String MTIME_SEPARATOR = ",";
+
+    private final Path cacheFile;
+
+    BinaryPathsCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * Creates the cache instance configured by the {@link #CACHE_PATH} system property or environment variable.
+     *
+     * @return the cache or an empty optional if the cache is disabled
+     */
+    static Optional<BinaryPathsCache> getDefault() {
+        String path = System.getProperty(CACHE_PATH);
+        if (isNullOrEmpty(path)) {
+            path = System.getenv(CACHE_PATH);
+        }
+        if (path != null && DISABLED.equals(path.trim().toLowerCase(Locale.ROOT))) {
+            return Optional.empty();
+        }
+        return Optional.of(new BinaryPathsCache(isNullOrEmpty(path)
+                ? Paths.get(System.getProperty("user.home"), ".cache", "appium-java-client", "binaries.properties")
+                : Paths.get(path)));
+    }
+
+    /**
+     * Retrieves the cached path.
+     *
+     * @param name    the name of the cached path
+     * @param sources files the path has been derived from. Missing files are allowed,
+     *                so the entry gets invalidated once they are created.
+     * @return the cached file if the entry exists and is still valid
+     */
+    synchronized Optional<File> get(String name, List<File> sources) {
+        var value = load().getProperty(toKey(name, sources));
+        if (value == null) {
+            return Optional.empty();
+        }
+        var parts = value.split("\\|", 3);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        var result = new File(parts[2]);
+        var isValid = parts[0].equals(toModificationTimes(sources))
+                && result.exists()
+                && parts[1].equals(String.valueOf(result.lastModified()));
+        return isValid ? Optional.of(result) : Optional.empty();
+    }
+
+    /**
+     * Stores the path.
+     *
+     * @param name    the name of the cached path
+     * @param sources files the path has been derived from
+     * @param value   the path to store
+     */
+    synchronized void put(String name, List<File> sources, File value) {
+        var properties = load();
+        properties.setProperty(toKey(name, sources), toModificationTimes(sources)
+                + SEPARATOR + value.lastModified() + SEPARATOR + value.getAbsolutePath());
+        Path tmpFile = null;
+        try {
+            Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+            tmpFile = Files.createTempFile(cacheFile.toAbsolutePath().getParent(), "binaries", ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmpFile)) {
+                properties.store(out, "Appium Java client binary paths");
+            }
+            // other processes must never see a partially written file
+            Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            // the cache is optional
+            if (tmpFile != null) {
+                deleteQuietly(tmpFile);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // ignore
+        }
+    }
+
+    private static String toKey(String name, List<File> sources) {
+        return name + ":" + sources.stream()
+                .map(File::getAbsolutePath)
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static String toModificationTimes(List<File> sources) {
+        // lastModified() is 0 for missing files
+        return sources.stream()
+                .map(source -> String.valueOf(source.lastModified()))
+                .collect(Collectors.joining(MTIME_SEPARATOR));
+    }
+
+    private Properties load() {
+        var properties = new Properties();
+        try (InputStream in = Files.newInputStream(cacheFile)) {
+            properties.load(in);
+        } catch (IOException | RuntimeException e) {
+            // the cache does not exist yet or is broken
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.service.local;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.function.Consumer;
+
+/**
+ * Splits the written data into lines and passes each complete line
+ * (including the trailing line feed) to the given consumer.
+ * Chunks are scanned for line feeds at once rather than byte by byte.
+ */
+class LineSplittingOutputStream extends OutputStream {
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final Consumer<String> lineConsumer;
+    private final Charset charset;
+    private ByteArrayOutputStream pendingLine = new ByteArrayOutputStream();
+
+    LineSplittingOutputStream(Consumer<String> lineConsumer, Charset charset) {
+        this.lineConsumer = lineConsumer;
+        this.charset = charset;
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        pendingLine.write(b);
+        if (b == '\n') {
+            emitPendingLine();
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) {
+        var lineStart = off;
+        var end = off + len;
+        for (int i = off; i < end; i++) {
+            if (b[i] != '\n') {
+                continue;
+            }
+            if (pendingLine.size() == 0) {
+                lineConsumer.accept(new String(b, lineStart, i + 1 - lineStart, charset));
+            } else {
+                pendingLine.write(b, lineStart, i + 1 - lineStart);
+                emitPendingLine();
+            }
+            lineStart = i + 1;
+        }
+        if (lineStart < end) {
+            pendingLine.write(b, lineStart, end - lineStart);
+        }
+    }
+
+    private void emitPendingLine() {
+        var line = pendingLine.toString(charset);
+        if (pendingLine.size() > MAX_RETAINED_BUFFER_SIZE) {
+            // do not keep the memory allocated for an exceptionally long line
+            pendingLine = new ByteArrayOutputStream();
+        } else {
+            pendingLine.reset();
+        }
+        lineConsumer.accept(line);
+    }
+}
@@ -18,13 +18,14 @@ package io.appium.java_client.service.local;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 class ListOutputStream extends OutputStream {
 
-    private final List<OutputStream> streams = new ArrayList<>();
+    // streams are rarely changed, but iterated on each write of the server output
+    private final List<OutputStream> streams = new CopyOnWriteArrayList<>();
 
     ListOutputStream add(OutputStream stream) {
         streams.add(stream);
@@ -0,0 +1,288 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.service.local;
+
+import io.appium.java_client.internal.VirtualThreads;
+import org.jspecify.annotations.Nullable;
+import org.openqa.selenium.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.net.URL;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bookkeeping of {@link AppiumDriverLocalServicePool}. It does not depend on the way servers
+ * are started, so it could be verified without running Node.js processes.
+ *
+ * @param <S> the type of pooled servers
+ */
+class ServerPool<S extends ServerPool.Server> implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(AppiumDriverLocalServicePool.class);
+
+    private final Supplier<? extends S> serverFactory;
+    private final int size;
+    private final BlockingQueue<PooledServer> idleServers = new LinkedBlockingQueue<>();
+    private final Set<PooledServer> servers = ConcurrentHashMap.newKeySet();
+    private int pendingStarts;
+    private int maxLeasesPerServer = Integer.MAX_VALUE;
+    private Duration healthCheckInterval = Duration.ofSeconds(30);
+    @Nullable
+    private volatile ScheduledExecutorService executor;
+    private volatile boolean isClosed;
+
+    /**
+     * A server, which could be kept by the pool.
+     */
+    interface Server {
+        void start();
+
+        void stop();
+
+        boolean isRunning();
+
+        URL getUrl();
+    }
+
+    ServerPool(Supplier<? extends S> serverFactory, int size) {
+        checkArgument(size > 0, "The pool size must be positive");
+        this.serverFactory = requireNonNull(serverFactory);
+        this.size = size;
+    }
+
+    ServerPool<S> withMaxLeasesPerServer(int maxLeasesPerServer) {
+        checkArgument(maxLeasesPerServer > 0, "The max count of leases must be positive");
+        this.maxLeasesPerServer = maxLeasesPerServer;
+        return this;
+    }
+
+    ServerPool<S> withHealthCheckInterval(Duration healthCheckInterval) {
+        checkArgument(!healthCheckInterval.isNegative() && !healthCheckInterval.isZero(),
+                "The health check interval must be positive");
+        this.healthCheckInterval = healthCheckInterval;
+        return this;
+    }
+
+    synchronized void start() {
+        if (isClosed) {
+            throw new IllegalStateException("The pool has been closed");
+        }
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newScheduledThreadPool(size, VirtualThreads.newThreadFactory("appium-service-pool"));
+        ensureCapacity();
+        var intervalMs = healthCheckInterval.toMillis();
+        executor.scheduleWithFixedDelay(this::checkHealth, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    Lease acquire(Duration timeout) {
+        if (isClosed || executor == null) {
+            throw new IllegalStateException("The pool is not started or has been closed");
+        }
+        var deadline = System.nanoTime() + timeout.toNanos();
+        try {
+            while (true) {
+                var server = idleServers.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                if (isClosed) {
+                    throw new IllegalStateException("The pool has been closed");
+                }
+                if (server == null) {
+                    throw new TimeoutException(String.format(
+                            "No Appium server of the pool has become available within %s ms", timeout.toMillis()));
+                }
+                if (server.server.isRunning()) {
+                    return new Lease(server);
+                }
+                LOG.warn("The Appium server at {} is not running. Replacing it", server.server.getUrl());
+                recycle(server);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    int getIdleCount() {
+        return idleServers.size();
+    }
+
+    private void release(PooledServer server, boolean isHealthy) {
+        if (isClosed || !isHealthy || server.leasesCount.incrementAndGet() >= maxLeasesPerServer) {
+            recycle(server);
+        } else {
+            idleServers.offer(server);
+        }
+    }
+
+    private void recycle(PooledServer server) {
+        if (!servers.remove(server)) {
+            return;
+        }
+        runAsync(() -> stopQuietly(server));
+        ensureCapacity();
+    }
+
+    private synchronized void ensureCapacity() {
+        while (!isClosed && servers.size() + pendingStarts < size) {
+            pendingStarts++;
+            runAsync(this::startServer);
+        }
+    }
+
+    private void runAsync(Runnable task) {
+        var currentExecutor = executor;
+        if (currentExecutor == null || currentExecutor.isShutdown()) {
+            task.run();
+        } else {
+            currentExecutor.execute(task);
+        }
+    }
+
+    private void startServer() {
+        PooledServer server = null;
+        try {
+            server = isClosed ? null : tryStartServer();
+        } finally {
+            if (!register(server) && server != null) {
+                // the pool has been closed while the server was starting
+                stopQuietly(server);
+            }
+        }
+    }
+
+    @Nullable
+    private PooledServer tryStartServer() {
+        PooledServer server = null;
+        try {
+            server = new PooledServer(serverFactory.get());
+            server.server.start();
+            return server;
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to start an Appium server of the pool. It is going to be retried on the next health check",
+                    e);
+            if (server != null) {
+                stopQuietly(server);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the pending start with the started server, so {@link #ensureCapacity()}
+     * never counts the same server twice or misses it.
+     */
+    private synchronized boolean register(@Nullable PooledServer server) {
+        pendingStarts--;
+        if (server == null || isClosed) {
+            return false;
+        }
+        servers.add(server);
+        idleServers.offer(server);
+        return true;
+    }
+
+    private void checkHealth() {
+        try {
+            for (var server : idleServers) {
+                if (!server.server.isRunning() && idleServers.remove(server)) {
+                    LOG.warn("The Appium server at {} has failed the health check. Replacing it",
+                            server.server.getUrl());
+                    recycle(server);
+                }
+            }
+            ensureCapacity();
+        } catch (RuntimeException e) {
+            // the health check must keep running
+            LOG.warn("Appium servers pool health check has failed", e);
+        }
+    }
+
+    private void stopQuietly(PooledServer server) {
+        try {
+            server.server.stop();
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to stop the Appium server at {}", server.server.getUrl(), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        ScheduledExecutorService currentExecutor;
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            currentExecutor = executor;
+        }
+        if (currentExecutor != null) {
+            currentExecutor.shutdownNow();
+        }
+        idleServers.clear();
+        servers.forEach(this::stopQuietly);
+        servers.clear();
+    }
+
+    private final class PooledServer {
+        private final S server;
+        private final AtomicInteger leasesCount = new AtomicInteger();
+
+        private PooledServer(S server) {
+            this.server = server;
+        }
+    }
+
+    final class Lease implements AutoCloseable {
+        private final PooledServer server;
+        private final AtomicBoolean isReleased = new AtomicBoolean();
+        private volatile boolean isHealthy = true;
+
+        private Lease(PooledServer server) {
+            this.server = server;
+        }
+
+        S getServer() {
+            return server.server;
+        }
+
+        void markUnhealthy() {
+            isHealthy = false;
+        }
+
+        @Override
+        public void close() {
+            if (isReleased.compareAndSet(false, true)) {
+                release(server, isHealthy);
+            }
+        }
+    }
+}
@@ -0,0 +1,469 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.ws;
+
+import lombok.Value;
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * On-disk store of device log messages, which could be used as a handler of logcat/syslog broadcasts
+ * (see {@link io.appium.java_client.android.ListensToLogcatMessages} and
+ * {@link io.appium.java_client.ios.ListensToSyslogMessages}) in order to keep long-running
+ * sessions logs off the heap.
+ * Records are appended to memory-mapped segment files of a fixed size. Once a segment is full
+ * it is sealed (and optionally compressed) and a new one is started. Only the given count
+ * of most recent segments is kept. Each segment has a sparse in-memory timestamp index,
+ * which allows to quickly find records of the given time range.
+ * Record timestamps never decrease: a timestamp, which is less than the previous one, is replaced with it.
+ * Segment files are not reused between store instances, so the directory should be dedicated to a single store.
+ */
+public class DeviceLogStore implements Consumer<String>, Closeable {
+    public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    public static final int DEFAULT_MAX_SEGMENTS = 16;
+    private static final int INDEX_INTERVAL_BYTES = 4096;
+    // timestamp + length
+    private static final int RECORD_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final boolean compressSealedSegments;
+    private final Clock clock;
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    @Nullable
+    private MappedByteBuffer activeBuffer;
+    private long lastTimestamp = Long.MIN_VALUE;
+    private int nextSegmentNumber;
+    private boolean isClosed;
+
+    /**
+     * Creates a store with default segment size and count, whose sealed segments are not compressed.
+     *
+     * @param directory the directory to store segment files in. It is created if it does not exist.
+     */
+    public DeviceLogStore(Path directory) {
+        this(directory, DEFAULT_SEGMENT_SIZE, DEFAULT_MAX_SEGMENTS, false, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a store.
+     *
+     * @param directory              the directory to store segment files in.
+     *                               It is created if it does not exist.
+     * @param segmentSize            the size of a single segment file in bytes.
+     *                               Messages longer than the segment size are truncated.
+     * @param maxSegments            the maximum count of segment files to keep. The oldest segments are
+     *                               deleted when this count is exceeded.
+     * @param compressSealedSegments whether to gzip segments once they are full
+     * @param clock                  the clock used to timestamp messages passed to {@link #accept(String)}
+     */
+    public DeviceLogStore(Path directory, int segmentSize, int maxSegments, boolean compressSealedSegments,
+                          Clock clock) {
+        checkArgument(segmentSize > RECORD_HEADER_SIZE, "The segment size is too small");
+        checkArgument(maxSegments > 0, "At least one segment must be kept");
+        try {
+            this.directory = Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.compressSealedSegments = compressSealedSegments;
+        this.clock = clock;
+    }
+
+    /**
+     * Appends the given message with the current timestamp.
+     *
+     * @param message the log message
+     */
+    @Override
+    public void accept(String message) {
+        append(clock.millis(), message);
+    }
+
+    /**
+     * Appends the given message.
+     *
+     * @param timestampMillis the message timestamp in milliseconds since the epoch
+     * @param message         the log message
+     * @throws UncheckedIOException if the message could not be stored
+     * @throws IllegalStateException if the store is closed
+     */
+    public synchronized void append(long timestampMillis, String message) {
+        if (isClosed) {
+            throw new IllegalStateException("The log store is closed");
+        }
+        var bytes = message.getBytes(UTF_8);
+        var length = Math.min(bytes.length, segmentSize - RECORD_HEADER_SIZE);
+        try {
+            if (activeBuffer == null || activeBuffer.remaining() < RECORD_HEADER_SIZE + length) {
+                rollSegment();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        var timestamp = Math.max(timestampMillis, lastTimestamp);
+        lastTimestamp = timestamp;
+        //noinspection ConstantConditions
+        var offset = activeBuffer.position();
+        activeBuffer.putLong(timestamp).putInt(length).put(bytes, 0, length);
+        segments.getLast().onAppended(timestamp, offset, activeBuffer.position());
+    }
+
+    private void rollSegment() throws IOException {
+        sealActiveSegment();
+        var file = directory.resolve(String.format("segment-%06d.log", nextSegmentNumber++));
+        try (var channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            activeBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        segments.addLast(new Segment(file));
+        while (segments.size() > maxSegments) {
+            deleteQuietly(segments.removeFirst().getCurrentFile());
+        }
+    }
+
+    private void sealActiveSegment() throws IOException {
+        if (activeBuffer == null) {
+            return;
+        }
+        activeBuffer.force();
+        activeBuffer = null;
+        var segment = segments.getLast();
+        if (compressSealedSegments) {
+            var compressedFile = segment.file.resolveSibling(segment.file.getFileName() + ".gz");
+            try (InputStream in = Files.newInputStream(segment.file);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressedFile))) {
+                copy(in, out, segment.size);
+            }
+            var rawFile = segment.file;
+            segment.seal(compressedFile);
+            deleteQuietly(rawFile);
+        } else {
+            try (var channel = FileChannel.open(segment.file, StandardOpenOption.WRITE)) {
+                channel.truncate(segment.size);
+            } catch (IOException e) {
+                // some platforms do not allow to truncate mapped files. The tail is ignored anyway.
+            }
+            segment.seal(segment.file);
+        }
+    }
+
+    private static void copy(InputStream in, OutputStream out, long count) throws IOException {
+        var buffer = new byte[64 * 1024];
+        var remaining = count;
+        while (remaining > 0) {
+            var read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                throw new EOFException();
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // mapped files cannot be deleted on some platforms until they are unmapped
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    /**
+     * Returns stored records of the given time range, which match the given predicate.
+     *
+     * @param from      the start of the time range (inclusive)
+     * @param to        the end of the time range (inclusive)
+     * @param predicate the predicate to filter messages
+     * @return matching records in the order they have been appended
+     * @throws UncheckedIOException if segments could not be read
+     */
+    public List<LogRecord> query(Instant from, Instant to, Predicate<String> predicate) {
+        var result = new ArrayList<LogRecord>();
+        query(from, to, predicate, result::add);
+        return result;
+    }
+
+    /**
+     * Passes stored records of the given time range, which match the given predicate,
+     * to the given consumer without collecting them.
+     * The store is not locked while the consumer is called, so records could be appended concurrently.
+     * Such records are not passed to the consumer.
+     *
+     * @param from      the start of the time range (inclusive)
+     * @param to        the end of the time range (inclusive)
+     * @param predicate the predicate to filter messages
+     * @param consumer  the consumer of matching records
+     * @throws UncheckedIOException if segments could not be read
+     */
+    public void query(Instant from, Instant to, Predicate<String> predicate, Consumer<LogRecord> consumer) {
+        var fromMillis = from.toEpochMilli();
+        var toMillis = to.toEpochMilli();
+        try {
+            for (var view : snapshotSegments(fromMillis, toMillis)) {
+                if (view.buffer == null) {
+                    readRecords(view, fromMillis, toMillis, predicate, consumer);
+                } else {
+                    readRecords(view.buffer, fromMillis, toMillis, predicate, consumer);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private synchronized List<SegmentView> snapshotSegments(long fromMillis, long toMillis) {
+        var result = new ArrayList<SegmentView>();
+        for (var segment : segments) {
+            if (segment.isEmpty() || segment.maxTimestamp < fromMillis || segment.minTimestamp > toMillis) {
+                continue;
+            }
+            var offset = segment.findOffset(fromMillis);
+            if (segment.sealedFile == null) {
+                //noinspection ConstantConditions
+                var buffer = activeBuffer.duplicate();
+                buffer.limit(segment.size).position(offset);
+                result.add(new SegmentView(null, offset, segment.size, buffer));
+            } else {
+                result.add(new SegmentView(segment.sealedFile, offset, segment.size, null));
+            }
+        }
+        return result;
+    }
+
+    private static void readRecords(ByteBuffer buffer, long fromMillis, long toMillis,
+                                    Predicate<String> predicate, Consumer<LogRecord> consumer) {
+        while (buffer.hasRemaining()) {
+            var timestamp = buffer.getLong();
+            var bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            if (timestamp > toMillis) {
+                return;
+            }
+            acceptRecord(timestamp, bytes, fromMillis, predicate, consumer);
+        }
+    }
+
+    private static void readRecords(SegmentView view, long fromMillis, long toMillis,
+                                    Predicate<String> predicate, Consumer<LogRecord> consumer) throws IOException {
+        InputStream fileStream;
+        try {
+            //noinspection ConstantConditions
+            fileStream = Files.newInputStream(view.file);
+        } catch (NoSuchFileException e) {
+            // the segment has been evicted after the snapshot was taken
+            return;
+        }
+        try (var in = new DataInputStream(new BufferedInputStream(isCompressed(view.file)
+                ? new GZIPInputStream(fileStream)
+                : fileStream))) {
+            skipFully(in, view.offset);
+            var position = view.offset;
+            while (position < view.size) {
+                var timestamp = in.readLong();
+                var bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                position += RECORD_HEADER_SIZE + bytes.length;
+                if (timestamp > toMillis) {
+                    return;
+                }
+                acceptRecord(timestamp, bytes, fromMillis, predicate, consumer);
+            }
+        }
+    }
+
+    private static boolean isCompressed(Path file) {
+        return file.getFileName().toString().endsWith(".gz");
+    }
+
+    private static void skipFully(InputStream in, long count) throws IOException {
+        var remaining = count;
+        while (remaining > 0) {
+            var skipped = in.skip(remaining);
+            if (skipped <= 0) {
+                if (in.read() < 0) {
+                    throw new EOFException();
+                }
+                skipped = 1;
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private static void acceptRecord(long timestamp, byte[] bytes, long fromMillis,
+                                     Predicate<String> predicate, Consumer<LogRecord> consumer) {
+        if (timestamp < fromMillis) {
+            return;
+        }
+        var message = new String(bytes, UTF_8);
+        if (predicate.test(message)) {
+            consumer.accept(new LogRecord(Instant.ofEpochMilli(timestamp), message));
+        }
+    }
+
+    /**
+     * Seals the active segment. Stored records could still be queried after the store is closed,
+     * but no new records could be appended.
+     *
+     * @throws IOException if the active segment could not be sealed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        sealActiveSegment();
+    }
+
+    /**
+     * Closes the store and deletes all its segment files.
+     *
+     * @throws IOException if files could not be deleted
+     */
+    public synchronized void delete() throws IOException {
+        close();
+        for (var segment : segments) {
+            Files.deleteIfExists(segment.getCurrentFile());
+        }
+        segments.clear();
+    }
+
+    @Value
+    public static class LogRecord {
+        Instant timestamp;
+        String message;
+    }
+
+    /**
+     * Immutable view of a segment, which is taken while the store is locked,
+     * so the segment could be read without holding the lock.
+     */
+    private static final class SegmentView {
+        @Nullable
+        private final Path file;
+        private final int offset;
+        private final int size;
+        @Nullable
+        private final ByteBuffer buffer;
+
+        private SegmentView(@Nullable Path file, int offset, int size, @Nullable ByteBuffer buffer) {
+            this.file = file;
+            this.offset = offset;
+            this.size = size;
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class Segment {
+        private final Path file;
+        @Nullable
+        private Path sealedFile;
+        private int size;
+        private long minTimestamp;
+        private long maxTimestamp;
+        private long[] indexTimestamps = new long[16];
+        private int[] indexOffsets = new int[16];
+        private int indexSize;
+
+        private Segment(Path file) {
+            this.file = file;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private Path getCurrentFile() {
+            return sealedFile == null ? file : sealedFile;
+        }
+
+        private void seal(Path sealedFile) {
+            this.sealedFile = sealedFile;
+        }
+
+        private void onAppended(long timestamp, int offset, int newSize) {
+            if (size == 0) {
+                minTimestamp = timestamp;
+            }
+            maxTimestamp = timestamp;
+            if (indexSize == 0 || offset - indexOffsets[indexSize - 1] >= INDEX_INTERVAL_BYTES) {
+                if (indexSize == indexOffsets.length) {
+                    indexTimestamps = Arrays.copyOf(indexTimestamps, indexSize * 2);
+                    indexOffsets = Arrays.copyOf(indexOffsets, indexSize * 2);
+                }
+                indexTimestamps[indexSize] = timestamp;
+                indexOffsets[indexSize] = offset;
+                indexSize++;
+            }
+            size = newSize;
+        }
+
+        /**
+         * Finds the offset of the last indexed record, whose timestamp is less than the given one.
+         * All records before it are older than the given timestamp, because timestamps never decrease.
+         */
+        private int findOffset(long timestamp) {
+            var low = 0;
+            var high = indexSize - 1;
+            var result = 0;
+            while (low <= high) {
+                var mid = (low + high) >>> 1;
+                if (indexTimestamps[mid] < timestamp) {
+                    result = indexOffsets[mid];
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.ws;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Predicates to be used as {@link MessageBuffer} filters for device log messages.
+ * Lines which cannot be parsed are always accepted, so no messages are lost
+ * if the server changes the log format.
+ */
+public class LogMessageFilters {
+    private static final String LOGCAT_LEVELS = "VDIWEFA";
+
+    private LogMessageFilters() {
+    }
+
+    /**
+     * Creates a filter for logcat lines in the `threadtime` (default) or `brief` format.
+     *
+     * @param minLevel the minimum level of accepted messages, one of V, D, I, W, E, F or A
+     * @param tags     accepted tags. All tags are accepted if the set is empty.
+     * @return the filter predicate
+     */
+    public static Predicate<String> logcat(char minLevel, Set<String> tags) {
+        var minPriority = LOGCAT_LEVELS.indexOf(Character.toUpperCase(minLevel));
+        if (minPriority < 0) {
+            throw new IllegalArgumentException(String.format("Unknown logcat level '%s'", minLevel));
+        }
+        var acceptedTags = Set.copyOf(tags);
+        return line -> {
+            var levelIdx = findLogcatLevel(line);
+            if (levelIdx < 0) {
+                return true;
+            }
+            if (LOGCAT_LEVELS.indexOf(line.charAt(levelIdx)) < minPriority) {
+                return false;
+            }
+            if (acceptedTags.isEmpty()) {
+                return true;
+            }
+            // threadtime: "I Tag: message", brief: "I/Tag( 123): message"
+            var tagStart = line.charAt(levelIdx + 1) == '/' ? levelIdx + 2 : skipSpaces(line, levelIdx + 1);
+            var tagEnd = tagStart;
+            while (tagEnd < line.length() && line.charAt(tagEnd) != ':' && line.charAt(tagEnd) != '(') {
+                tagEnd++;
+            }
+            return acceptedTags.contains(line.substring(tagStart, tagEnd).trim());
+        };
+    }
+
+    /**
+     * Creates a filter for iOS syslog lines like
+     * `Oct 18 12:34:56 iPhone SpringBoard(UIKit)[57] &lt;Notice&gt;: message`.
+     *
+     * @param levels    accepted levels (Debug, Info, Notice, Warning, Error, etc.).
+     *                  All levels are accepted if the set is empty.
+     * @param processes accepted process names. All processes are accepted if the set is empty.
+     * @return the filter predicate
+     */
+    public static Predicate<String> syslog(Set<String> levels, Set<String> processes) {
+        var acceptedLevels = Set.copyOf(levels);
+        var acceptedProcesses = Set.copyOf(processes);
+        return line -> {
+            var levelStart = line.indexOf(" <");
+            var levelEnd = levelStart < 0 ? -1 : line.indexOf(">:", levelStart);
+            if (levelEnd < 0) {
+                return true;
+            }
+            if (!acceptedLevels.isEmpty() && !acceptedLevels.contains(line.substring(levelStart + 2, levelEnd))) {
+                return false;
+            }
+            if (acceptedProcesses.isEmpty()) {
+                return true;
+            }
+            var pidStart = line.lastIndexOf('[', levelStart);
+            var processStart = pidStart < 0 ? -1 : line.lastIndexOf(' ', pidStart) + 1;
+            if (processStart <= 0) {
+                return true;
+            }
+            var process = line.substring(processStart, pidStart);
+            var subsystemStart = process.indexOf('(');
+            return acceptedProcesses.contains(subsystemStart < 0 ? process : process.substring(0, subsystemStart));
+        };
+    }
+
+    /**
+     * Finds the level letter of a logcat line.
+     * It is followed by a slash in the brief format, or surrounded by spaces in the threadtime format.
+     */
+    private static int findLogcatLevel(String line) {
+        if (line.length() > 2 && line.charAt(1) == '/' && LOGCAT_LEVELS.indexOf(line.charAt(0)) >= 0) {
+            return 0;
+        }
+        // threadtime: "10-18 12:34:56.789  1234  5678 I Tag: message"
+        var idx = 0;
+        for (int field = 0; field < 4; field++) {
+            idx = skipSpaces(line, idx);
+            while (idx < line.length() && line.charAt(idx) != ' ') {
+                idx++;
+            }
+        }
+        idx = skipSpaces(line, idx);
+        var isLevel = idx + 1 < line.length() && line.charAt(idx + 1) == ' '
+                && LOGCAT_LEVELS.indexOf(line.charAt(idx)) >= 0;
+        return isLevel ? idx : -1;
+    }
+
+    private static int skipSpaces(String line, int idx) {
+        while (idx < line.length() && line.charAt(idx) == ' ') {
+            idx++;
+        }
+        return idx;
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.ws;
+
+import io.appium.java_client.internal.VirtualThreads;
+import lombok.Getter;
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Bounded buffer of web socket text messages, which decouples the web socket reader thread
+ * from message handlers. Messages are stored in a fixed-size ring and delivered to handlers
+ * in batches by a dedicated thread, so a slow handler does not stall the socket.
+ * The behavior on buffer overflow is defined by {@link OverflowPolicy}.
+ * Messages that do not match the filter are dropped before they get into the buffer.
+ */
+public class MessageBuffer implements Closeable {
+    public static final int DEFAULT_CAPACITY = 10_000;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    public enum OverflowPolicy {
+        /**
+         * The oldest buffered message is dropped to make room for the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * The web socket reader thread waits until there is room in the buffer.
+         * This effectively applies backpressure to the server.
+         */
+        BLOCK,
+        /**
+         * While the buffer is full only every n-th incoming message is kept
+         * (replacing the oldest one) and the rest is dropped. This keeps a representative
+         * sample of messages during bursts.
+         */
+        SAMPLE
+    }
+
+    private final String[] ring;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final int sampleRate;
+    private final Predicate<String> filter;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong filteredCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private int head;
+    private int size;
+    private long overflowCounter;
+    /**
+     * The maximum count of messages, which were waiting for delivery at the same time.
+     */
+    @Getter
+    private volatile int maxLag;
+    private volatile boolean isClosed;
+    @Nullable
+    private Thread deliveryThread;
+
+    /**
+     * Creates a buffer with the given capacity and overflow policy, which accepts all messages.
+     *
+     * @param capacity       the maximum count of messages waiting for delivery
+     * @param overflowPolicy the behavior on buffer overflow
+     */
+    public MessageBuffer(int capacity, OverflowPolicy overflowPolicy) {
+        this(capacity, overflowPolicy, DEFAULT_BATCH_SIZE, 10, message -> true);
+    }
+
+    /**
+     * Creates a buffer.
+     *
+     * @param capacity       the maximum count of messages waiting for delivery
+     * @param overflowPolicy the behavior on buffer overflow
+     * @param batchSize      the maximum count of messages delivered to handlers at once
+     * @param sampleRate     each n-th message is kept while the buffer is full.
+     *                       Only used by {@link OverflowPolicy#SAMPLE}.
+     * @param filter         only messages matching this predicate are buffered.
+     *                       It is evaluated by the web socket reader thread, so it must be fast.
+     *                       See {@link LogMessageFilters} for log specific filters.
+     */
+    public MessageBuffer(int capacity, OverflowPolicy overflowPolicy, int batchSize, int sampleRate,
+                         Predicate<String> filter) {
+        checkArgument(capacity > 0, "The capacity must be positive");
+        checkArgument(batchSize > 0, "The batch size must be positive");
+        checkArgument(sampleRate > 0, "The sample rate must be positive");
+        this.ring = new String[capacity];
+        this.overflowPolicy = requireNonNull(overflowPolicy);
+        this.batchSize = batchSize;
+        this.sampleRate = sampleRate;
+        this.filter = requireNonNull(filter);
+    }
+
+    /**
+     * Starts delivering buffered messages to the given consumer.
+     * The consumer is invoked by a dedicated thread with batches of messages in the order of their arrival.
+     *
+     * @param batchConsumer the consumer of message batches
+     */
+    void start(Consumer<List<String>> batchConsumer) {
+        lock.lock();
+        try {
+            if (isClosed || deliveryThread != null) {
+                throw new IllegalStateException("The message buffer can only be started once");
+            }
+            deliveryThread = VirtualThreads.newThreadFactory("appium-ws-buffer")
+                    .newThread(() -> deliverMessages(batchConsumer));
+            deliveryThread.start();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts the message to the buffer according to the overflow policy.
+     *
+     * @param message the message to buffer
+     * @return true if the message has been buffered
+     */
+    public boolean offer(String message) {
+        if (!filter.test(message)) {
+            filteredCount.incrementAndGet();
+            return false;
+        }
+        lock.lock();
+        try {
+            while (size == ring.length && overflowPolicy == OverflowPolicy.BLOCK && !isClosed) {
+                notFull.awaitUninterruptibly();
+            }
+            if (isClosed) {
+                droppedCount.incrementAndGet();
+                return false;
+            }
+            if (size == ring.length) {
+                if (overflowPolicy == OverflowPolicy.SAMPLE && overflowCounter++ % sampleRate != 0) {
+                    droppedCount.incrementAndGet();
+                    return false;
+                }
+                // drop the oldest message
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+                size--;
+                droppedCount.incrementAndGet();
+            } else {
+                overflowCounter = 0;
+            }
+            ring[(head + size) % ring.length] = message;
+            size++;
+            if (size > maxLag) {
+                maxLag = size;
+            }
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<String> takeBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            while (size == 0 && !isClosed) {
+                notEmpty.await();
+            }
+            var count = Math.min(size, batchSize);
+            var batch = new ArrayList<String>(count);
+            for (int i = 0; i < count; i++) {
+                batch.add(ring[head]);
+                ring[head] = null;
+                head = (head + 1) % ring.length;
+            }
+            size -= count;
+            notFull.signalAll();
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void deliverMessages(Consumer<List<String>> batchConsumer) {
+        try {
+            while (true) {
+                var batch = takeBatch();
+                if (batch.isEmpty()) {
+                    // the buffer has been closed and drained
+                    return;
+                }
+                try {
+                    batchConsumer.accept(batch);
+                } catch (RuntimeException e) {
+                    // a failing handler must not stop the delivery of further messages
+                } finally {
+                    deliveredCount.addAndGet(batch.size());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the count of messages waiting for delivery.
+     *
+     * @return the current lag of handlers in messages
+     */
+    public int getLag() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the count of messages dropped because of buffer overflows.
+     *
+     * @return the count of dropped messages
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the count of messages rejected by the filter.
+     *
+     * @return the count of filtered out messages
+     */
+    public long getFilteredCount() {
+        return filteredCount.get();
+    }
+
+    /**
+     * Returns the count of messages passed to handlers.
+     *
+     * @return the count of delivered messages
+     */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /**
+     * Stops accepting new messages. Messages, which are already buffered, are still delivered.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            isClosed = true;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 package io.appium.java_client.ws;
 
+import io.appium.java_client.internal.VirtualThreads;
 import org.jspecify.annotations.Nullable;
 import org.openqa.selenium.remote.http.HttpClient;
 import org.openqa.selenium.remote.http.HttpMethod;
@@ -26,22 +27,43 @@ import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class StringWebSocketClient implements WebSocket.Listener,
         CanHandleMessages<String>, CanHandleErrors, CanHandleConnects, CanHandleDisconnects {
+    private static final int MAX_PENDING_TASKS = 1024;
+
     private final List<Consumer<String>> messageHandlers = new CopyOnWriteArrayList<>();
     private final List<Consumer<Throwable>> errorHandlers = new CopyOnWriteArrayList<>();
     private final List<Runnable> connectHandlers = new CopyOnWriteArrayList<>();
     private final List<Runnable> disconnectHandlers = new CopyOnWriteArrayList<>();
 
     private volatile boolean isListening = false;
+    @Nullable
+    private volatile MessageBuffer messageBuffer;
 
     private final WeakReference<HttpClient> httpClient;
+    /**
+     * If virtual threads are enabled (see {@link VirtualThreads}) then handlers are invoked
+     * sequentially by a virtual thread rather than by the web socket reader thread.
+     * The count of pending tasks is limited. The web socket reader thread is blocked
+     * while the limit is reached, so the order of events is preserved.
+     */
+    @Nullable
+    private final ExecutorService dispatcher;
 
     public StringWebSocketClient(HttpClient httpClient) {
         this.httpClient = new WeakReference<>(httpClient);
+        this.dispatcher = VirtualThreads.isEnabled()
+                ? new ThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_PENDING_TASKS),
+                        VirtualThreads.newThreadFactory("appium-ws-dispatcher"), StringWebSocketClient::waitForSpace)
+                : null;
     }
 
     private URI endpoint;
@@ -90,22 +112,84 @@ public class StringWebSocketClient implements WebSocket.Listener,
 
     @Override
     public void onClose(int code, String reason) {
-        try {
-            getDisconnectionHandlers().forEach(Runnable::run);
-        } finally {
-            isListening = false;
-        }
+        // the state is changed immediately, so a subsequent connect call is not ignored
+        isListening = false;
+        dispatch(() -> getDisconnectionHandlers().forEach(Runnable::run));
     }
 
     @Override
     public void onError(Throwable t) {
-        getErrorHandlers().forEach(x -> x.accept(t));
+        dispatch(() -> getErrorHandlers().forEach(x -> x.accept(t)));
     }
 
     @Override
     public void onText(CharSequence data) {
         String text = data.toString();
-        getMessageHandlers().forEach(x -> x.accept(text));
+        var buffer = messageBuffer;
+        if (buffer == null) {
+            dispatch(() -> getMessageHandlers().forEach(x -> x.accept(text)));
+        } else {
+            buffer.offer(text);
+        }
+    }
+
+    /**
+     * Makes incoming messages go through the given bounded buffer. Message handlers are then
+     * invoked in batches by a dedicated thread, so slow handlers do not stall the web socket.
+     * Failures of message handlers are passed to error handlers in such case.
+     * The previously set buffer (if any) is closed, although messages it already contains are still delivered.
+     * The buffer is kept while the client reconnects. It is closed and detached when it gets replaced
+     * or by {@link #removeAllHandlers()}, which stops its delivery thread.
+     *
+     * @param buffer the buffer to use or null to invoke message handlers directly
+     */
+    public synchronized void setMessageBuffer(@Nullable MessageBuffer buffer) {
+        var previousBuffer = messageBuffer;
+        if (previousBuffer == buffer) {
+            return;
+        }
+        if (buffer != null) {
+            buffer.start(this::deliverMessages);
+        }
+        messageBuffer = buffer;
+        if (previousBuffer != null) {
+            previousBuffer.close();
+        }
+    }
+
+    @Nullable
+    public MessageBuffer getMessageBuffer() {
+        return messageBuffer;
+    }
+
+    private void deliverMessages(List<String> messages) {
+        for (Consumer<String> handler : getMessageHandlers()) {
+            for (String message : messages) {
+                try {
+                    handler.accept(message);
+                } catch (RuntimeException e) {
+                    getErrorHandlers().forEach(x -> x.accept(e));
+                }
+            }
+        }
+    }
+
+    private static void waitForSpace(Runnable task, ThreadPoolExecutor executor) {
+        try {
+            // the queue is only full while the worker thread is busy, so it is going to take the task
+            executor.getQueue().put(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException(e);
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        if (dispatcher == null) {
+            task.run();
+        } else {
+            dispatcher.execute(task);
+        }
     }
 
     @Override
@@ -129,12 +213,13 @@ public class StringWebSocketClient implements WebSocket.Listener,
     }
 
     /**
-     * Remove all the registered handlers.
+     * Remove all the registered handlers. The message buffer (if any) is closed and detached as well.
      */
     public void removeAllHandlers() {
         removeMessageHandlers();
         removeErrorHandlers();
         removeConnectionHandlers();
         removeDisconnectionHandlers();
+        setMessageBuffer(null);
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client;
+
+import io.appium.java_client.AppiumFluentWait.IterationInfo;
+import io.appium.java_client.AppiumFluentWait.WaitResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PollingStrategiesTest {
+    private static IterationInfo iteration(long number) {
+        return new IterationInfo(number, Duration.ZERO, Duration.ofSeconds(10), Duration.ofMillis(500));
+    }
+
+    @Test
+    void fibonacciIntervalsAreCapped() {
+        var strategy = PollingStrategies.fibonacci(Duration.ofMillis(100), Duration.ofMillis(700));
+        var intervals = LongStream.rangeClosed(1, 7)
+                .mapToObj(number -> strategy.apply(iteration(number)).toMillis())
+                .collect(Collectors.toList());
+        assertEquals(List.of(100L, 100L, 200L, 300L, 500L, 700L, 700L), intervals);
+    }
+
+    @Test
+    void exponentialIntervalsAreJitteredAndCapped() {
+        var strategy = PollingStrategies.exponentialWithJitter(Duration.ofMillis(100), 2, Duration.ofMillis(1000));
+        for (int i = 0; i < 100; i++) {
+            var first = strategy.apply(iteration(1)).toMillis();
+            assertTrue(first >= 50 && first <= 100, String.valueOf(first));
+            var tenth = strategy.apply(iteration(10)).toMillis();
+            assertTrue(tenth >= 500 && tenth <= 1000, String.valueOf(tenth));
+        }
+    }
+
+    @Test
+    void learnedStrategyStartsPollingNearExpectedCompletion() {
+        var clock = new FakeClock();
+        var learned = new LearnedPollingStrategy(PollingStrategies.fixed());
+        var results = new ArrayList<WaitResult>();
+
+        for (int i = 0; i < 2; i++) {
+            var readyAt = clock.instant().plusMillis(2000);
+            new AppiumFluentWait<>("input", clock, clock::advance)
+                    .withPollingStrategy(learned.forCondition("button is visible"))
+                    .withResultListener(results::add)
+                    .pollingEvery(Duration.ofMillis(100))
+                    .withTimeout(Duration.ofSeconds(10))
+                    .until(input -> !clock.instant().isBefore(readyAt));
+        }
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(WaitResult::isSuccessful));
+        assertEquals(21, results.get(0).getIterations());
+        // the second wait sleeps until 80% of the expected duration right away
+        assertEquals(6, results.get(1).getIterations());
+        assertEquals(Duration.ofMillis(2000), learned.getExpectedDuration("button is visible").orElseThrow());
+    }
+
+    private static final class FakeClock extends Clock {
+        private Instant now = Instant.EPOCH;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.systemDefault();
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
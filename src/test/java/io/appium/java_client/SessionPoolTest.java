@@ -0,0 +1,188 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+class SessionPoolTest {
+    private static final String SERVER_URL = "http://127.0.0.1:4723";
+    private static final Capabilities CAPS = new ImmutableCapabilities(
+            "platformName", "Android", "appium:automationName", "UiAutomator2", "appium:appPackage", "com.example");
+
+    private final AtomicInteger sessionsCount = new AtomicInteger();
+    private final AtomicInteger attachFailures = new AtomicInteger();
+    private final List<String> terminatedSessions = new ArrayList<>();
+    private volatile boolean failScripts;
+    private final SessionPool<FakeDriver> pool = new SessionPool<>(
+            caps -> new FakeDriver(toSessionAddress("session-" + sessionsCount.incrementAndGet())),
+            (address, caps) -> {
+                if (attachFailures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                    throw new WebDriverException("Unable to attach to " + address);
+                }
+                return new FakeDriver(address);
+            }
+    );
+
+    private static URL toSessionAddress(String sessionId) {
+        try {
+            return new URL(SERVER_URL + "/session/" + sessionId);
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void shouldReuseSessionsForNormalizedCapabilities() {
+        var driver = pool.acquire(CAPS);
+        pool.release(driver);
+        assertThat(driver.scripts, contains("mobile: terminateApp", "mobile: activateApp"));
+        assertThat(driver.isQuit, is(false));
+        assertThat(pool.getIdleCount(), equalTo(1));
+
+        var reused = pool.acquire(new ImmutableCapabilities(
+                "platformName", "Android", "automationName", "UiAutomator2", "appPackage", "com.example"));
+        assertThat(reused, is(not(sameInstance(driver))));
+        assertThat(reused.getSessionId(), equalTo(driver.getSessionId()));
+        assertThat(sessionsCount.get(), equalTo(1));
+        assertThat(pool.getIdleCount(), equalTo(0));
+    }
+
+    @Test
+    void shouldNotReuseSessionsForOtherCapabilities() {
+        pool.release(pool.acquire(CAPS));
+        var driver = pool.acquire(new ImmutableCapabilities(
+                "platformName", "Android", "appium:automationName", "UiAutomator2", "appium:appPackage", "com.other"));
+        assertThat(driver.getSessionId().toString(), equalTo("session-2"));
+        assertThat(pool.getIdleCount(), equalTo(1));
+    }
+
+    @Test
+    void shouldTerminateExpiredIdleSessions() throws InterruptedException {
+        pool.withMaxIdleTime(Duration.ofMillis(1));
+        pool.release(pool.acquire(CAPS));
+        Thread.sleep(10);
+
+        var driver = pool.acquire(CAPS);
+        assertThat(driver.getSessionId().toString(), equalTo("session-2"));
+        assertThat(terminatedSessions, contains("session-1"));
+    }
+
+    @Test
+    void shouldLimitIdleSessionsPerKey() {
+        pool.withMaxIdleSessionsPerKey(1);
+        var first = pool.acquire(CAPS);
+        var second = pool.acquire(CAPS);
+        pool.release(first);
+        pool.release(second);
+        assertThat(first.isQuit, is(false));
+        assertThat(second.isQuit, is(true));
+        assertThat(pool.getIdleCount(), equalTo(1));
+    }
+
+    @Test
+    void shouldTerminateSessionIfResetFails() {
+        var driver = pool.acquire(CAPS);
+        failScripts = true;
+        pool.release(driver);
+        assertThat(driver.isQuit, is(true));
+        assertThat(pool.getIdleCount(), equalTo(0));
+    }
+
+    @Test
+    void shouldTerminateSessionWithoutAppIdUnlessResetIsDisabled() {
+        var caps = new ImmutableCapabilities("platformName", "Android", "appium:automationName", "UiAutomator2");
+        var driver = pool.acquire(caps);
+        pool.release(driver);
+        assertThat(driver.isQuit, is(true));
+
+        pool.withResetStrategy(SessionPool.ResetStrategy.NONE);
+        driver = pool.acquire(caps);
+        pool.release(driver);
+        assertThat(driver.isQuit, is(false));
+        assertThat(driver.scripts, is(empty()));
+        assertThat(pool.getIdleCount(), equalTo(1));
+    }
+
+    @Test
+    void shouldTerminateIdleSessionIfItCannotBeAttached() {
+        pool.release(pool.acquire(CAPS));
+        attachFailures.set(1);
+
+        var driver = pool.acquire(CAPS);
+        assertThat(driver.getSessionId().toString(), equalTo("session-2"));
+        assertThat(terminatedSessions, contains("session-1"));
+        assertThat(pool.getIdleCount(), equalTo(0));
+    }
+
+    @Test
+    void shouldTerminateIdleSessionsOnClose() {
+        var driver = pool.acquire(CAPS);
+        pool.release(pool.acquire(CAPS));
+        pool.close();
+        assertThat(terminatedSessions, contains("session-2"));
+
+        pool.release(driver);
+        assertThat(driver.isQuit, is(true));
+    }
+
+    private final class FakeDriver extends AppiumDriver {
+        private final List<String> scripts = new ArrayList<>();
+        private boolean isQuit;
+
+        private FakeDriver(URL sessionAddress) {
+            super(sessionAddress, "Android", "UiAutomator2");
+        }
+
+        @Override
+        public Response execute(String driverCommand, Map<String, ?> parameters) {
+            if (DriverCommand.EXECUTE_SCRIPT.equals(driverCommand)) {
+                scripts.add(String.valueOf(parameters.get("script")));
+                if (failScripts) {
+                    throw new WebDriverException("The script has failed");
+                }
+            }
+            return new Response();
+        }
+
+        @Override
+        public void quit() {
+            isQuit = true;
+            terminatedSessions.add(getSessionId().toString());
+        }
+    }
+}
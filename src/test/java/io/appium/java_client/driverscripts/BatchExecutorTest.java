@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.driverscripts;
+
+import io.appium.java_client.ExecutesDriverScript;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchExecutorTest {
+
+    private static class FakeDriver implements ExecutesDriverScript {
+        private final List<Map<String, ?>> requests = new ArrayList<>();
+        private final Function<Map<String, ?>, Object> responder;
+
+        FakeDriver(Function<Map<String, ?>, Object> responder) {
+            this.responder = responder;
+        }
+
+        @Override
+        public Response execute(String driverCommand, Map<String, ?> parameters) {
+            requests.add(parameters);
+            var response = new Response();
+            response.setValue(Map.of("result", responder.apply(parameters), "logs", Map.of()));
+            return response;
+        }
+
+        @Override
+        public Response execute(String driverCommand) {
+            return execute(driverCommand, Map.of());
+        }
+    }
+
+    @Test
+    void shouldSendAllQueuedCommandsInOneRequest() {
+        var driver = new FakeDriver(params -> List.of(
+                Map.of("value", "package:io.appium.settings"),
+                Map.of("value", "Login")
+        ));
+        var batch = driver.batch();
+        CompletableFuture<String> shell = batch.executeScript("mobile: shell", Map.of("command", "pm"));
+        CompletableFuture<String> attribute = batch.execute("driver.getElementAttribute(\"1\", \"text\")");
+
+        assertEquals(2, batch.size());
+        batch.flush();
+
+        assertEquals(1, driver.requests.size());
+        var script = (String) driver.requests.get(0).get("script");
+        assertThat(script, containsString("await driver.execute(\"mobile: shell\", {"));
+        assertThat(script, containsString("\"command\""));
+        assertThat(script, containsString("await driver.getElementAttribute(\"1\", \"text\")"));
+        assertEquals("package:io.appium.settings", shell.join());
+        assertEquals("Login", attribute.join());
+        assertThat(batch.size(), is(0));
+    }
+
+    @Test
+    void shouldFailOnlyTheFailedCommand() {
+        var driver = new FakeDriver(params -> List.of(
+                Map.of("error", "Unknown mobile command"),
+                Map.of("value", 42)
+        ));
+        var batch = driver.batch();
+        CompletableFuture<Object> failed = batch.executeScript("mobile: unknown");
+        CompletableFuture<Object> succeeded = batch.executeScript("mobile: getDeviceTime");
+        batch.flush();
+
+        assertTrue(failed.isCompletedExceptionally());
+        assertEquals(42, succeeded.join());
+    }
+
+    @Test
+    void shouldFailAllCommandsIfBatchIsMalformed() {
+        var driver = new FakeDriver(params -> List.of());
+        var batch = driver.batch();
+        CompletableFuture<Object> future = batch.executeScript("mobile: getDeviceTime");
+
+        assertThrows(WebDriverException.class, batch::flush);
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    void shouldNotSendEmptyBatch() {
+        var driver = new FakeDriver(params -> List.of());
+        assertNull(driver.batch().flush());
+        assertTrue(driver.requests.isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.imagecomparison;
+
+import io.appium.java_client.ScreenshotState;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StructuralSimilarityComparatorTest {
+    private final StructuralSimilarityComparator comparator = new StructuralSimilarityComparator();
+
+    private static BufferedImage createImage(int width, int height, boolean withButton) {
+        var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        var graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.fillRect(width / 10, height / 10, width / 2, height / 20);
+        if (withButton) {
+            graphics.setColor(Color.BLUE);
+            graphics.fillRect(width / 4, height / 2, width / 2, height / 10);
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    @Test
+    void shouldReportEqualImagesAsSimilar() {
+        var reference = comparator.fingerprint(createImage(1080, 1920, true));
+        var actual = comparator.fingerprint(createImage(1080, 1920, true));
+        assertThat(comparator.getSimilarity(reference, actual), closeTo(1.0, 1e-9));
+    }
+
+    @Test
+    void shouldReportChangedImagesAsDifferent() {
+        var reference = comparator.fingerprint(createImage(1080, 1920, false));
+        var actual = comparator.fingerprint(createImage(1080, 1920, true));
+        assertThat(comparator.getSimilarity(reference, actual), lessThan(0.95));
+    }
+
+    @Test
+    void shouldNotDiluteLocalizedChangesInMinMode() {
+        var minComparator = new StructuralSimilarityComparator(
+                StructuralSimilarityComparator.DEFAULT_THUMBNAIL_SIZE, StructuralSimilarityComparator.Aggregation.MIN);
+        var referenceImage = createImage(1080, 1920, false);
+        var actualImage = createImage(1080, 1920, false);
+        var graphics = actualImage.createGraphics();
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(900, 1700, 60, 60);
+        graphics.dispose();
+
+        var mean = comparator.getSimilarity(
+                comparator.fingerprint(referenceImage), comparator.fingerprint(actualImage));
+        var min = minComparator.getSimilarity(
+                minComparator.fingerprint(referenceImage), minComparator.fingerprint(actualImage));
+        assertThat(mean, greaterThan(0.95));
+        assertThat(min, lessThan(0.95));
+        assertThat(min, lessThan(mean));
+    }
+
+    @Test
+    void shouldRejectImagesOfDifferentResolution() {
+        var reference = comparator.fingerprint(createImage(1080, 1920, true));
+        var actual = comparator.fingerprint(createImage(720, 1280, true));
+        assertThrows(IllegalArgumentException.class, () -> comparator.getSimilarity(reference, actual));
+    }
+
+    @Test
+    void shouldVerifyScreenshotStateLocally() {
+        var state = new ScreenshotState(comparator, () -> createImage(540, 960, true))
+                .setComparisonInterval(Duration.ofMillis(10));
+        state.remember(createImage(540, 960, false))
+                .verifyChanged(Duration.ofMillis(100), 0.95);
+        state.remember()
+                .verifyNotChanged(Duration.ofMillis(100), 0.99);
+        assertThrows(ScreenshotState.ScreenshotComparisonTimeout.class,
+                () -> state.verifyChanged(Duration.ofMillis(50), 0.95));
+    }
+}
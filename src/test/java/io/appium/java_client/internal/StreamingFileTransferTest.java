@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.internal;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriverException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+import java.util.Random;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingFileTransferTest {
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(UTF_8));
+    }
+
+    private static String readValue(String json) throws IOException {
+        var in = toStream(json);
+        StreamingFileTransfer.skipToStringValue(in, "value");
+        return new String(new StreamingFileTransfer.JsonStringInputStream(in).readAllBytes(), UTF_8);
+    }
+
+    @Test
+    void shouldReadStringValueOfTheGivenKey() throws IOException {
+        assertEquals("abc", readValue("{\"value\":\"abc\"}"));
+        assertEquals("abc", readValue("{\"sessionId\": \"vvalue\",  \"value\" :\n \"abc\", \"x\": \"y\"}"));
+    }
+
+    @Test
+    void shouldUnescapeSlashesAndDropOtherEscapes() throws IOException {
+        assertEquals("ab/c+d=", readValue("{\"value\":\"ab\\/c\\n+\\u000ad\\r\\n=\"}"));
+    }
+
+    @Test
+    void shouldDecodeLargePayloadsInChunks() throws IOException {
+        var data = new byte[300_000];
+        new Random(42).nextBytes(data);
+        var encoded = Base64.getMimeEncoder().encodeToString(data).replace("\r\n", "\\r\\n").replace("/", "\\/");
+        var in = toStream(String.format("{\"value\":\"%s\"}", encoded));
+
+        StreamingFileTransfer.skipToStringValue(in, "value");
+        var decoded = Base64.getMimeDecoder()
+                .wrap(new StreamingFileTransfer.JsonStringInputStream(in))
+                .readAllBytes();
+
+        assertArrayEquals(data, decoded);
+    }
+
+    @Test
+    void shouldReadSourceInBulkWhenConsumedBytewise() throws IOException {
+        var data = new byte[300_000];
+        new Random(7).nextBytes(data);
+        var source = new CountingInputStream(toStream(
+                String.format("{\"value\":\"%s\"}", Base64.getEncoder().encodeToString(data))));
+        StreamingFileTransfer.skipToStringValue(source, "value");
+        var stream = new StreamingFileTransfer.JsonStringInputStream(source);
+        source.readCalls = 0;
+
+        var encoded = new ByteArrayOutputStream();
+        int chr;
+        while ((chr = stream.read()) != -1) {
+            encoded.write(chr);
+        }
+
+        assertArrayEquals(data, Base64.getDecoder().decode(encoded.toByteArray()));
+        assertTrue(source.readCalls < 100, String.format("%s source reads", source.readCalls));
+    }
+
+    @Test
+    void shouldMixSingleByteAndBulkReads() throws IOException {
+        var in = toStream("{\"value\":\"ab\\/cdef\"}");
+        StreamingFileTransfer.skipToStringValue(in, "value");
+        var stream = new StreamingFileTransfer.JsonStringInputStream(in);
+
+        assertEquals('a', stream.read());
+        var chunk = new byte[3];
+        assertEquals(3, stream.read(chunk, 0, chunk.length));
+        assertArrayEquals("b/c".getBytes(UTF_8), chunk);
+        assertEquals("def", new String(stream.readAllBytes(), UTF_8));
+        assertEquals(-1, stream.read());
+    }
+
+    @Test
+    void shouldFailIfValueIsNotString() {
+        assertThrows(WebDriverException.class,
+                () -> StreamingFileTransfer.skipToStringValue(toStream("{\"value\":null}"), "value"));
+        assertThrows(WebDriverException.class,
+                () -> StreamingFileTransfer.skipToStringValue(toStream("{\"status\":0}"), "value"));
+    }
+
+    @Test
+    void shouldFailIfStringIsNotTerminated() throws IOException {
+        var in = toStream("{\"value\":\"abc");
+        StreamingFileTransfer.skipToStringValue(in, "value");
+        var stream = new StreamingFileTransfer.JsonStringInputStream(in);
+
+        assertThrows(IOException.class, stream::readAllBytes);
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private int readCalls;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            readCalls++;
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            readCalls++;
+            return super.read(b, off, len);
+        }
+    }
+}
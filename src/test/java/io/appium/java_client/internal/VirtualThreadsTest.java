@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.internal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadsTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(VirtualThreads.USE_VIRTUAL_THREADS);
+    }
+
+    @Test
+    void shouldCreateDaemonPlatformThreadsByDefault() {
+        System.setProperty(VirtualThreads.USE_VIRTUAL_THREADS, "false");
+        assertFalse(VirtualThreads.isEnabled());
+
+        var factory = VirtualThreads.newThreadFactory("appium-test");
+        var first = factory.newThread(() -> { });
+        var second = factory.newThread(() -> { });
+
+        assertTrue(first.isDaemon());
+        assertEquals("appium-test-0", first.getName());
+        assertEquals("appium-test-1", second.getName());
+    }
+
+    @Test
+    void shouldCreateWorkingThreadsIfEnabled() throws InterruptedException {
+        System.setProperty(VirtualThreads.USE_VIRTUAL_THREADS, "true");
+        var isSupported = Runtime.version().feature() >= 21;
+        assertEquals(isSupported, VirtualThreads.isEnabled());
+
+        var completion = new CountDownLatch(1);
+        var thread = VirtualThreads.newThreadFactory("appium-test").newThread(completion::countDown);
+        thread.start();
+
+        assertTrue(completion.await(5, TimeUnit.SECONDS));
+        assertThat(thread.getName(), startsWith("appium-test-"));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.mjpeg;
+
+import com.sun.net.httpserver.HttpServer;
+import io.appium.java_client.mjpeg.MjpegScreenStream.ScreenStatus;
+import io.appium.java_client.utils.TestUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MjpegScreenStreamTest {
+    private static final int FRAMES_COUNT = 40;
+    private static final int CHANGED_FRAME_INDEX = 15;
+
+    private HttpServer server;
+
+    private static byte[] createFrame(Color color) throws IOException {
+        var image = new BufferedImage(320, 640, BufferedImage.TYPE_INT_RGB);
+        var graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, 320, 640);
+        graphics.setColor(color);
+        graphics.fillRect(50, 100, 200, 80);
+        graphics.dispose();
+        var result = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", result);
+        return result.toByteArray();
+    }
+
+    @BeforeEach
+    void startServer() throws IOException {
+        var initialFrame = createFrame(Color.RED);
+        var changedFrame = createFrame(Color.BLUE);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "multipart/x-mixed-replace; boundary=--BoundaryString");
+            exchange.sendResponseHeaders(200, 0);
+            try (var out = exchange.getResponseBody()) {
+                for (int i = 0; i < FRAMES_COUNT; i++) {
+                    var frame = i < CHANGED_FRAME_INDEX ? initialFrame : changedFrame;
+                    out.write(String.format("--BoundaryString\r\nContent-type: image/jpg\r\nContent-Length: %s\r\n\r\n",
+                            frame.length).getBytes(UTF_8));
+                    out.write(frame);
+                    out.write("\r\n\r\n".getBytes(UTF_8));
+                    out.flush();
+                    Thread.sleep(20);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void shouldDetectScreenTransitions() throws IOException {
+        var url = new URL(String.format("http://127.0.0.1:%s/", server.getAddress().getPort()));
+        List<ScreenStatus> transitions = Collections.synchronizedList(new ArrayList<>());
+        try (var stream = new MjpegScreenStream(url).setStabilityDuration(Duration.ofMillis(100))) {
+            stream.addStatusListener(transitions::add).start();
+
+            var frame = stream.getLatestFrame(Duration.ofSeconds(5));
+            assertEquals(320, frame.getWidth());
+            assertEquals(640, frame.getHeight());
+
+            TestUtils.waitUntilTrue(() -> transitions.size() == 3, Duration.ofSeconds(5), Duration.ofMillis(50));
+            assertEquals(List.of(ScreenStatus.STABLE, ScreenStatus.CHANGED, ScreenStatus.STABLE), transitions);
+        }
+    }
+}
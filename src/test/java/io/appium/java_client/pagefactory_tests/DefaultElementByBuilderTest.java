@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.pagefactory_tests;
+
+import io.appium.java_client.pagefactory.AndroidFindBy;
+import io.appium.java_client.pagefactory.DefaultElementByBuilder;
+import io.appium.java_client.pagefactory.bys.ContentMappedBy;
+import io.appium.java_client.pagefactory.bys.ContentType;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import static io.appium.java_client.remote.AutomationName.ANDROID_UIAUTOMATOR2;
+import static io.appium.java_client.remote.MobilePlatform.ANDROID;
+import static io.appium.java_client.remote.MobilePlatform.IOS;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class DefaultElementByBuilderTest {
+
+    @FindBy(id = "login")
+    @AndroidFindBy(accessibility = "login")
+    private WebElement login;
+
+    private static ContentMappedBy buildBy(String platform) throws NoSuchFieldException {
+        var builder = new DefaultElementByBuilder(platform, ANDROID_UIAUTOMATOR2);
+        builder.setAnnotated(DefaultElementByBuilderTest.class.getDeclaredField("login"));
+        return (ContentMappedBy) builder.buildBy();
+    }
+
+    @Test
+    void shouldReuseBuiltLocatorsWithIndependentContent() throws NoSuchFieldException {
+        var first = buildBy(ANDROID);
+        var second = buildBy(ANDROID);
+        assertThat(first, not(sameInstance(second)));
+        assertThat(first.toString(), containsString("accessibilityId: login"));
+
+        first.useContent(ContentType.HTML_OR_DEFAULT);
+        assertThat(first.toString(), equalTo("By.id: login"));
+        assertThat(second.toString(), containsString("accessibilityId: login"));
+    }
+
+    @Test
+    void shouldBuildLocatorsPerPlatform() throws NoSuchFieldException {
+        assertThat(buildBy(ANDROID).toString(), containsString("accessibilityId: login"));
+        assertThat(buildBy(IOS).toString(), equalTo("By.id: login"));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.pagefactory_tests.widget.tests;
+
+import io.appium.java_client.pagefactory.AndroidFindBy;
+import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import io.appium.java_client.pagefactory_tests.widget.tests.android.DefaultAndroidWidget;
+import io.appium.java_client.pagefactory_tests.widget.tests.combined.CombinedWidgetTest.AppWithCombinedWidgets;
+import io.appium.java_client.pagefactory_tests.widget.tests.combined.DefaultIosXCUITWidget;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.openqa.selenium.support.PageFactory.initElements;
+
+class WidgetDecorationPlanTest {
+
+    private static Class<?> getSubWidgetClass(WebDriver driver) {
+        var app = new AppWithCombinedWidgets();
+        initElements(new AppiumFieldDecorator(driver), app);
+        return app.getWidget().getSubWidget().getSelfReference().getClass();
+    }
+
+    @Test
+    void shouldReuseDecorationPlansForFurtherPageObjectInstances() {
+        var driver = new AbstractStubWebDriver.StubAndroidDriver();
+        assertThat(getSubWidgetClass(driver), equalTo(DefaultAndroidWidget.class));
+        assertThat(getSubWidgetClass(driver), equalTo(DefaultAndroidWidget.class));
+    }
+
+    @Test
+    void shouldKeepSeparateDecorationPlansPerPlatform() {
+        assertThat(getSubWidgetClass(new AbstractStubWebDriver.StubAndroidDriver()),
+                equalTo(DefaultAndroidWidget.class));
+        assertThat(getSubWidgetClass(new AbstractStubWebDriver.StubIOSXCUITDriver()),
+                equalTo(DefaultIosXCUITWidget.class));
+        assertThat(getSubWidgetClass(new AbstractStubWebDriver.StubAndroidDriver()),
+                equalTo(DefaultAndroidWidget.class));
+    }
+
+    @Test
+    void shouldCreateWidgetsWithTheirConvenientConstructor() {
+        var app = new AppWithWidgets();
+        initElements(new AppiumFieldDecorator(new AbstractStubWebDriver.StubAndroidDriver()), app);
+        var widget = app.widget.getSelfReference();
+        assertThat(widget, instanceOf(DefaultAndroidWidget.class));
+        assertThat(widget.getWrappedElement(), instanceOf(StubWebElement.class));
+        assertThat(app.widgets.get(1).getSelfReference(), instanceOf(DefaultAndroidWidget.class));
+    }
+
+    @Test
+    void shouldWrapWidgetConstructorExceptions() {
+        var app = new AppWithWidgets();
+        initElements(new AppiumFieldDecorator(new AbstractStubWebDriver.StubAndroidDriver()), app);
+        var e = assertThrows(InvocationTargetException.class, () -> app.failingWidget.getText());
+        assertThat(e.getCause(), instanceOf(IllegalStateException.class));
+    }
+
+    public static class FailingWidget extends DefaultStubWidget {
+        protected FailingWidget(WebElement element) {
+            super(element);
+            if (element instanceof StubWebElement) {
+                throw new IllegalStateException("The widget cannot be created");
+            }
+        }
+    }
+
+    public static class AppWithWidgets {
+        @AndroidFindBy(uiAutomator = "SOME_ANDROID_WIDGET_LOCATOR")
+        private DefaultAndroidWidget widget;
+
+        @AndroidFindBy(uiAutomator = "SOME_ANDROID_WIDGET_LOCATOR")
+        private List<DefaultAndroidWidget> widgets;
+
+        @AndroidFindBy(uiAutomator = "SOME_FAILING_WIDGET_LOCATOR")
+        private FailingWidget failingWidget;
+    }
+}
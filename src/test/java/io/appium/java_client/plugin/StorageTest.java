@@ -24,8 +24,10 @@ import org.junit.jupiter.api.Test;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class StorageTest {
@@ -55,6 +57,16 @@ public class StorageTest {
         assertItemsCount(0);
     }
 
+    @Test
+    void shouldSkipUploadsOfUnchangedFiles() {
+        var testFile = TestUtils.resourcePathToAbsolutePath("html/hello appium - saved page.htm").toFile();
+        assertEquals(List.of(testFile), storageClient.addAll(List.of(testFile), 2));
+        assertItemsCount(1);
+        assertTrue(storageClient.addAll(List.of(testFile), 2).isEmpty());
+        assertFalse(storageClient.addIfChanged(testFile, testFile.getName()));
+        assertItemsCount(1);
+    }
+
     private void assertItemsCount(int expected) {
         var items = storageClient.list();
         assertEquals(expected, items.size());
@@ -18,7 +18,11 @@ package io.appium.java_client.proxy;
 
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.options.XCUITestOptions;
+import net.bytebuddy.description.method.MethodDescription;
+import net.bytebuddy.matcher.ElementMatcher;
+import net.bytebuddy.matcher.ElementMatchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openqa.selenium.By;
 import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.NoSuchSessionException;
@@ -27,19 +31,27 @@ import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.RemoteWebElement;
 import org.openqa.selenium.remote.UnreachableBrowserException;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static io.appium.java_client.proxy.Helpers.createProxy;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ProxyHelpersTest {
 
@@ -115,6 +127,100 @@ class ProxyHelpersTest {
         )));
     }
 
+    @Test
+    void shouldShareProxyClassesBetweenThreads() {
+        Helpers.prewarm(RemoteWebElement.class);
+        MethodCallListener listener = new MethodCallListener() {
+        };
+        var proxyClasses = IntStream.range(0, 16)
+                .parallel()
+                .mapToObj(i -> createProxy(RemoteWebDriver.class, listener).getClass())
+                .collect(Collectors.toSet());
+        assertThat(proxyClasses.size(), is(equalTo(1)));
+        var elementProxy = createProxy(RemoteWebElement.class, listener);
+        assertThat(elementProxy.getClass().getSuperclass(), is(equalTo(RemoteWebElement.class)));
+    }
+
+    @Test
+    void shouldSaveProxyClassFiles(@TempDir Path outputDir) throws IOException {
+        var classFile = Helpers.saveProxyClass(
+                outputDir, RemoteWebElement.class, new Class<?>[]{}, Helpers.DEFAULT_METHOD_MATCHER);
+        assertTrue(classFile.isFile());
+        assertTrue(classFile.toPath().startsWith(outputDir.resolve("org/openqa/selenium/remote")));
+
+        MethodCallListener listener = new MethodCallListener() {
+        };
+        var proxyClassName = createProxy(RemoteWebElement.class, listener).getClass().getName();
+        assertThat(classFile.getName(), is(equalTo(
+                proxyClassName.substring(proxyClassName.lastIndexOf('.') + 1) + ".class")));
+    }
+
+    @Test
+    void shouldLoadSavedProxyClassesWithMatchingSignature(@TempDir Path outputDir) throws Exception {
+        ElementMatcher<MethodDescription> matcher = ElementMatchers.named("getId");
+        Helpers.saveProxyClass(outputDir, RemoteWebElement.class, new Class<?>[]{}, matcher);
+        var signature = Helpers.getProxySignature(RemoteWebElement.class, new Class<?>[]{}, matcher);
+        var name = Helpers.getProxyClassName(RemoteWebElement.class, signature);
+
+        try (var classLoader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, getClass().getClassLoader())) {
+            var proxyClass = Helpers.loadPregeneratedProxyClass(RemoteWebElement.class, name, signature, classLoader)
+                    .orElseThrow();
+            assertSame(classLoader, proxyClass.getClassLoader());
+            var calls = new ArrayList<String>();
+            var element = proxyClass.getConstructor().newInstance();
+            ((HasMethodCallListeners) element).setMethodCallListeners(new MethodCallListener[]{
+                new MethodCallListener() {
+                    @Override
+                    public void beforeCall(Object obj, Method method, Object[] args) {
+                        calls.add(method.getName());
+                    }
+                }
+            });
+            element.setId("123");
+
+            assertThat(element.getId(), is(equalTo("123")));
+            assertThat(calls, is(equalTo(List.of("getId"))));
+            assertFalse(Helpers.loadPregeneratedProxyClass(
+                    RemoteWebElement.class, name, signature + "-other", classLoader).isPresent());
+            assertFalse(Helpers.loadPregeneratedProxyClass(
+                    RemoteWebDriver.class, name, signature, classLoader).isPresent());
+        }
+    }
+
+    @Test
+    void shouldDeriveProxyClassNamesFromFullSignature() {
+        var signature = Helpers.getProxySignature(RemoteWebElement.class, new Class<?>[]{}, ElementMatchers.any());
+        var otherSignature = Helpers.getProxySignature(
+                RemoteWebElement.class, new Class<?>[]{String.class}, ElementMatchers.any());
+
+        assertTrue(signature.contains(RemoteWebElement.class.getName()));
+        assertTrue(signature.contains(ElementMatchers.any().toString()));
+        assertFalse(Helpers.getProxyClassName(RemoteWebElement.class, signature)
+                .equals(Helpers.getProxyClassName(RemoteWebElement.class, otherSignature)));
+    }
+
+    @Test
+    void shouldSkipNotImplementedCallbacks() {
+        final StringBuilder acc = new StringBuilder();
+        MethodCallListener listener = new MethodCallListener() {
+            @Override
+            public Object call(Object obj, Method method, Object[] args, Callable<?> original) {
+                throw new NotImplementedException();
+            }
+
+            @Override
+            public void afterCall(Object obj, Method method, Object[] args, Object result) {
+                acc.append("afterCall ").append(method.getName()).append("\n");
+            }
+        };
+        RemoteWebElement element = createProxy(RemoteWebElement.class, listener);
+        element.setId("123");
+
+        assertThat(element.getId(), is(equalTo("123")));
+        assertThat(acc.toString().trim(), is(equalTo("afterCall setId\nafterCall getId")));
+        assertThat(new NotImplementedException().getStackTrace().length, is(equalTo(0)));
+    }
+
     @Test
     void shouldFireErrorEvents() {
         MethodCallListener listener = new MethodCallListener() {
@@ -213,4 +319,27 @@ class ProxyHelpersTest {
                 )
         )));
     }
+
+    @Test
+    void shouldWrapListItemsLazily() throws MalformedURLException {
+        FakeIOSDriver driver = createProxy(
+                FakeIOSDriver.class,
+                new Object[] {new URL("http://localhost:4723/"), new XCUITestOptions()},
+                new Class[] {URL.class, Capabilities.class},
+                new ElementAwareWebDriverListener()
+        );
+
+        List<WebElement> elements = driver.findElements(By.id("button"));
+
+        assertThat(elements.size(), is(equalTo(2)));
+        WebElement first = elements.get(0);
+        assertTrue(first instanceof HasMethodCallListeners);
+        assertThat(((RemoteWebElement) first).getId(), is(equalTo("1234")));
+        assertSame(first, elements.get(0));
+        assertSame(((HasMethodCallListeners) first).getMethodCallListeners(),
+                ((HasMethodCallListeners) elements.get(1)).getMethodCallListeners());
+
+        elements.remove(0);
+        assertThat(((RemoteWebElement) elements.get(0)).getId(), is(equalTo("5678")));
+    }
 }
@@ -4,12 +4,29 @@ import io.appium.java_client.AppiumClientConfig;
 import io.appium.java_client.MobileCommand;
 import org.junit.jupiter.api.Test;
 import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandCodec;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.ResponseCodec;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class AppiumCommandExecutorTest {
@@ -26,6 +43,18 @@ class AppiumCommandExecutorTest {
         return new AppiumCommandExecutor(MobileCommand.commandRepository, clientConfig);
     }
 
+    private AppiumCommandExecutor createAttachedExecutor(
+            CommandCodec<HttpRequest> commandCodec, ResponseCodec<HttpResponse> responseCodec
+    ) throws MalformedURLException {
+        var executor = new AppiumCommandExecutor(MobileCommand.commandRepository, null,
+                FakeHttpClient.answering("{\"value\":\"ok\"}", Duration.ZERO),
+                AppiumClientConfig.defaultConfig().baseUrl(new URL(APPIUM_URL)));
+        executor.setCommandCodec(commandCodec);
+        executor.setResponseCodec(responseCodec);
+        executor.refreshAdditionalCommands();
+        return executor;
+    }
+
     @Test
     void getAdditionalCommands() {
         assertNotNull(createExecutor().getAdditionalCommands());
@@ -46,4 +75,73 @@ class AppiumCommandExecutorTest {
         assertThrows(SessionNotCreatedException.class,
                 () -> createExecutor().overrideServerUrl(new URL("https://127.0.0.1:4443/wd/hub")));
     }
+
+    @Test
+    void executeAsyncRejectsSessionLifecycleCommands() {
+        var future = createExecutor().executeAsync(new Command(new SessionId("1234"), DriverCommand.QUIT));
+        var error = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(IllegalArgumentException.class, error.getCause());
+    }
+
+    @Test
+    void executeAsyncRequiresExistingSession() {
+        var future = createExecutor().executeAsync(
+                new Command(new SessionId("1234"), DriverCommand.GET_PAGE_SOURCE, Map.of()));
+        var error = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(WebDriverException.class, error.getCause());
+    }
+
+    @Test
+    void executeAsyncWrapsResponseDecodingFailures() throws MalformedURLException {
+        var decodingError = new IllegalArgumentException("Unexpected payload");
+        var executor = createAttachedExecutor(new AppiumW3CHttpCommandCodec(), new ResponseCodec<>() {
+            @Override
+            public HttpResponse encode(Supplier<HttpResponse> factory, Response response) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Response decode(HttpResponse encodedResponse) {
+                throw decodingError;
+            }
+        });
+
+        var future = executor.executeAsync(
+                new Command(new SessionId("1234"), DriverCommand.GET_PAGE_SOURCE, Map.of()));
+
+        var error = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(WebDriverException.class, error.getCause());
+        assertSame(decodingError, error.getCause().getCause());
+    }
+
+    @Test
+    void executeAsyncWrapsRequestEncodingFailures() throws MalformedURLException {
+        var encodingError = new IllegalArgumentException("Unknown command");
+        var executor = createAttachedExecutor(new CommandCodec<>() {
+            @Override
+            public HttpRequest encode(Command command) {
+                throw encodingError;
+            }
+
+            @Override
+            public Command decode(HttpRequest encodedCommand) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void defineCommand(String name, HttpMethod method, String pathPattern) {
+            }
+
+            @Override
+            public void alias(String commandName, String isAnAliasFor) {
+            }
+        }, new W3CHttpResponseCodec());
+
+        var future = executor.executeAsync(
+                new Command(new SessionId("1234"), DriverCommand.GET_PAGE_SOURCE, Map.of()));
+
+        var error = assertThrows(CompletionException.class, future::join);
+        assertInstanceOf(WebDriverException.class, error.getCause());
+        assertSame(encodingError, error.getCause().getCause());
+    }
 }
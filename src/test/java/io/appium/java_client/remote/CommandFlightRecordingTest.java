@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import io.appium.java_client.AppiumClientConfig;
+import io.appium.java_client.MobileCommand;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandFlightRecordingTest {
+    private static final String EVENT_NAME = "io.appium.Command";
+    private static final SessionId SESSION_ID = new SessionId("c0ffee");
+    private static final String RESPONSE_BODY = "{\"value\":\"ok\"}";
+
+    private static AppiumCommandExecutor createExecutor(HttpClient.Factory factory) throws IOException {
+        var executor = new AppiumCommandExecutor(MobileCommand.commandRepository, null, factory,
+                AppiumClientConfig.defaultConfig().baseUrl(new URL("https://appium.example.com")));
+        // Same as attaching to an existing session, so NEW_SESSION handshake is skipped
+        executor.setCommandCodec(new AppiumW3CHttpCommandCodec());
+        executor.setResponseCodec(new W3CHttpResponseCodec());
+        executor.refreshAdditionalCommands();
+        return executor;
+    }
+
+    private static Command executeScript() {
+        return new Command(SESSION_ID, DriverCommand.EXECUTE_SCRIPT,
+                Map.of("script", "mobile: deviceInfo", "args", List.of()));
+    }
+
+    private static List<RecordedEvent> record(Path dir, Runnable action) throws IOException {
+        var dump = dir.resolve("recording.jfr");
+        try (var recording = new Recording()) {
+            recording.enable(EVENT_NAME).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(dump);
+        }
+        return RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> EVENT_NAME.equals(event.getEventType().getName()))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void shouldRecordSuccessfulCommands(@TempDir Path dir) throws IOException {
+        var executor = createExecutor(FakeHttpClient.answering(RESPONSE_BODY, Duration.ZERO));
+
+        var events = record(dir, () -> executor.execute(executeScript()));
+
+        assertEquals(1, events.size());
+        var event = events.get(0);
+        assertEquals(DriverCommand.EXECUTE_SCRIPT, event.getString("command"));
+        assertEquals(SESSION_ID.toString(), event.getString("sessionId"));
+        assertTrue(event.getBoolean("successful"));
+        assertNull(event.getString("error"));
+        assertThat(event.getLong("requestBytes"), greaterThan(0L));
+        assertEquals(RESPONSE_BODY.getBytes(UTF_8).length, event.getLong("responseBytes"));
+    }
+
+    @Test
+    void shouldRecordFailedCommands(@TempDir Path dir) throws IOException {
+        var executor = createExecutor(FakeHttpClient.failing());
+
+        var events = record(dir, () -> assertThrows(WebDriverException.class, () -> executor.execute(executeScript())));
+
+        assertEquals(1, events.size());
+        var event = events.get(0);
+        assertEquals(DriverCommand.EXECUTE_SCRIPT, event.getString("command"));
+        assertFalse(event.getBoolean("successful"));
+        assertEquals(WebDriverException.class.getName(), event.getString("error"));
+        assertEquals(-1, event.getLong("responseBytes"));
+    }
+
+    @Test
+    void shouldNotRecordCommandsIfEventIsDisabled(@TempDir Path dir) throws IOException {
+        var executor = createExecutor(FakeHttpClient.answering(RESPONSE_BODY, Duration.ZERO));
+        var dump = dir.resolve("recording.jfr");
+
+        try (var recording = new Recording()) {
+            recording.start();
+            executor.execute(executeScript());
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        assertTrue(RecordingFile.readAllEvents(dump).stream()
+                .noneMatch(event -> EVENT_NAME.equals(event.getEventType().getName())));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.SessionId;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandMetricsTest {
+    private static final SessionId SESSION_ID = new SessionId("c0ffee");
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    private static CommandTiming timing(String commandName, long encodeMillis, long decodeMillis, long totalMillis) {
+        return new CommandTiming(new Command(SESSION_ID, commandName), Duration.ofMillis(encodeMillis).toNanos(),
+                Duration.ofMillis(decodeMillis).toNanos(), Duration.ofMillis(totalMillis).toNanos(), 10, 20, null);
+    }
+
+    private void recordSamples() {
+        metrics.afterCommand(timing("getPageSource", 1, 4, 25));
+        metrics.afterCommand(timing("getPageSource", 3, 6, 45));
+        metrics.afterCommand(timing("findElement", 2, 2, 10));
+    }
+
+    @Test
+    void shouldRecordAllPhases() {
+        recordSamples();
+
+        assertEquals(Set.of("getPageSource", "findElement"), metrics.getCommandNames());
+        var total = metrics.getHistogram("getPageSource", CommandMetrics.Phase.TOTAL);
+        assertEquals(2, total.getCount());
+        assertEquals(Duration.ofMillis(45), total.getMax());
+        var http = metrics.getHistogram("getPageSource", CommandMetrics.Phase.HTTP);
+        assertEquals(Duration.ofMillis(36), http.getMax());
+        assertEquals(Duration.ofMillis(5), metrics.getHistogram("getPageSource", CommandMetrics.Phase.DECODE)
+                .getMean());
+        assertNull(metrics.getHistogram("getStatus", CommandMetrics.Phase.TOTAL));
+    }
+
+    @Test
+    void shouldExportHistogramsOfAllPhases() {
+        recordSamples();
+        var exported = new ArrayList<String>();
+
+        metrics.exportTo((commandName, phase, histogram) ->
+                exported.add(String.format("%s.%s=%d", commandName, phase, histogram.getCount())));
+
+        assertEquals(List.of(
+                "findElement.ENCODE=1", "findElement.HTTP=1", "findElement.DECODE=1", "findElement.TOTAL=1",
+                "getPageSource.ENCODE=2", "getPageSource.HTTP=2", "getPageSource.DECODE=2", "getPageSource.TOTAL=2"
+        ), exported);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSerializeStatisticsToJson() {
+        recordSamples();
+
+        Map<String, Object> json = new Json().toType(metrics.toJson(), Map.class);
+
+        assertEquals(Set.of("getPageSource", "findElement"), json.keySet());
+        var pageSource = (Map<String, Object>) json.get("getPageSource");
+        assertEquals(2L, ((Number) pageSource.get("count")).longValue());
+        assertEquals(Set.of("count", "encode", "http", "decode", "total"), pageSource.keySet());
+        var total = (Map<String, Object>) pageSource.get("total");
+        assertEquals(Set.of("mean", "p50", "p90", "p99", "max"), total.keySet());
+        assertThat(((Number) total.get("mean")).doubleValue(), closeTo(35, 1));
+        assertThat(((Number) total.get("max")).doubleValue(), closeTo(45, 0.001));
+        var http = (Map<String, Object>) pageSource.get("http");
+        assertThat(((Number) http.get("p99")).doubleValue(), closeTo(36, 36 / 32.0));
+    }
+
+    @Test
+    void shouldLogSingleLinePerCommand() {
+        recordSamples();
+        var lines = new ArrayList<String>();
+        var logger = (Logger) Proxy.newProxyInstance(Logger.class.getClassLoader(), new Class<?>[]{Logger.class},
+                (proxy, method, args) -> {
+                    if ("info".equals(method.getName()) && args.length == 1) {
+                        lines.add((String) args[0]);
+                    }
+                    return method.getReturnType() == boolean.class ? Boolean.TRUE : null;
+                });
+
+        metrics.logSummary(logger);
+
+        assertThat(lines, contains(startsWith("findElement: count=1, total "),
+                startsWith("getPageSource: count=2, total ")));
+    }
+
+    @Test
+    void shouldBeEmptyAfterReset() {
+        recordSamples();
+
+        metrics.reset();
+
+        assertTrue(metrics.getCommandNames().isEmpty());
+        assertTrue(new Json().toType(metrics.toJson(), Map.class).isEmpty());
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import io.appium.java_client.AppiumClientConfig;
+import io.appium.java_client.MobileCommand;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.CommandCodec;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.ResponseCodec;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static io.appium.java_client.remote.FakeHttpClient.sleep;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CommandTracingTest {
+    private static final SessionId SESSION_ID = new SessionId("c0ffee");
+    private static final String RESPONSE_BODY = "{\"value\":\"ok\"}";
+    private static final Duration ENCODE_DELAY = Duration.ofMillis(40);
+    private static final Duration HTTP_DELAY = Duration.ofMillis(80);
+    private static final Duration DECODE_DELAY = Duration.ofMillis(120);
+
+    private final RecordingTracer tracer = new RecordingTracer();
+
+    private static AppiumCommandExecutor createExecutor(HttpClient.Factory factory) throws MalformedURLException {
+        var executor = new AppiumCommandExecutor(MobileCommand.commandRepository, null, factory,
+                AppiumClientConfig.defaultConfig().baseUrl(new URL("https://appium.example.com")));
+        // Same as attaching to an existing session, so NEW_SESSION handshake is skipped
+        executor.setCommandCodec(new SlowCommandCodec(new AppiumW3CHttpCommandCodec()));
+        executor.setResponseCodec(new SlowResponseCodec(new W3CHttpResponseCodec()));
+        executor.refreshAdditionalCommands();
+        return executor;
+    }
+
+    private static Command executeScript() {
+        return new Command(SESSION_ID, DriverCommand.EXECUTE_SCRIPT,
+                Map.of("script", "mobile: deviceInfo", "args", List.of()));
+    }
+
+    private static void assertPhasesSplit(CommandTiming timing) {
+        assertThat(timing.getEncodeNanos(), greaterThanOrEqualTo(ENCODE_DELAY.toNanos()));
+        assertThat(timing.getHttpNanos(), greaterThanOrEqualTo(HTTP_DELAY.toNanos()));
+        assertThat(timing.getDecodeNanos(), greaterThanOrEqualTo(DECODE_DELAY.toNanos()));
+        assertEquals(timing.getTotalNanos(),
+                timing.getEncodeNanos() + timing.getHttpNanos() + timing.getDecodeNanos());
+        assertThat(timing.getRequestBytes(), greaterThan(0L));
+        assertEquals(RESPONSE_BODY.getBytes(UTF_8).length, timing.getResponseBytes());
+        assertTrue(timing.isSuccessful());
+    }
+
+    @Test
+    void shouldSplitCommandLatencyIntoPhases() throws MalformedURLException {
+        var executor = createExecutor(FakeHttpClient.answering(RESPONSE_BODY, HTTP_DELAY));
+        executor.addCommandTracer(tracer);
+        var command = executeScript();
+
+        var response = executor.execute(command);
+
+        assertEquals("ok", response.getValue());
+        assertEquals(List.of(command), tracer.startedCommands);
+        assertEquals(1, tracer.timings.size());
+        var timing = tracer.timings.get(0);
+        assertSame(command, timing.getCommand());
+        assertEquals(DriverCommand.EXECUTE_SCRIPT, timing.getCommandName());
+        assertPhasesSplit(timing);
+    }
+
+    @Test
+    void shouldSplitAsyncCommandLatencyIntoPhases() throws Exception {
+        var executor = createExecutor(FakeHttpClient.answering(RESPONSE_BODY, HTTP_DELAY));
+        executor.addCommandTracer(tracer);
+        var command = executeScript();
+
+        var response = executor.executeAsync(command).get(5, TimeUnit.SECONDS);
+
+        assertEquals("ok", response.getValue());
+        assertEquals(SESSION_ID.toString(), response.getSessionId());
+        assertEquals(List.of(command), tracer.startedCommands);
+        assertEquals(1, tracer.timings.size());
+        assertPhasesSplit(tracer.timings.get(0));
+    }
+
+    @Test
+    void shouldTraceFailedCommands() throws MalformedURLException {
+        var executor = createExecutor(FakeHttpClient.failing());
+        executor.addCommandTracer(tracer);
+
+        var e = assertThrows(WebDriverException.class, () -> executor.execute(executeScript()));
+
+        assertEquals(1, tracer.timings.size());
+        var timing = tracer.timings.get(0);
+        assertFalse(timing.isSuccessful());
+        assertSame(e, timing.getError());
+        assertEquals(0, timing.getDecodeNanos());
+        assertEquals(-1, timing.getResponseBytes());
+    }
+
+    @Test
+    void shouldTraceFailedAsyncCommands() throws MalformedURLException {
+        var executor = createExecutor(FakeHttpClient.failing());
+        executor.addCommandTracer(tracer);
+
+        var e = assertThrows(ExecutionException.class,
+                () -> executor.executeAsync(executeScript()).get(5, TimeUnit.SECONDS));
+
+        assertThat(e.getCause(), instanceOf(WebDriverException.class));
+        assertEquals(1, tracer.timings.size());
+        var timing = tracer.timings.get(0);
+        assertFalse(timing.isSuccessful());
+        assertSame(e.getCause(), timing.getError());
+        assertEquals(-1, timing.getResponseBytes());
+    }
+
+    @Test
+    void shouldIsolateFailingTracers() throws Exception {
+        var executor = createExecutor(FakeHttpClient.answering(RESPONSE_BODY, Duration.ZERO));
+        executor.addCommandTracer(new CommandTracer() {
+            @Override
+            public void beforeCommand(Command command) {
+                throw new IllegalStateException("beforeCommand");
+            }
+
+            @Override
+            public void afterCommand(CommandTiming timing) {
+                throw new IllegalStateException("afterCommand");
+            }
+        });
+        executor.addCommandTracer(tracer);
+
+        assertEquals("ok", executor.execute(executeScript()).getValue());
+        assertEquals("ok", executor.executeAsync(executeScript()).get(5, TimeUnit.SECONDS).getValue());
+
+        assertEquals(2, tracer.startedCommands.size());
+        assertEquals(2, tracer.timings.size());
+    }
+
+    @Test
+    void shouldNotNotifyRemovedTracers() throws MalformedURLException {
+        var executor = createExecutor(FakeHttpClient.answering(RESPONSE_BODY, Duration.ZERO));
+        executor.addCommandTracer(tracer);
+        executor.execute(executeScript());
+
+        assertTrue(executor.removeCommandTracer(tracer));
+        executor.execute(executeScript());
+
+        assertEquals(1, tracer.startedCommands.size());
+        assertEquals(1, tracer.timings.size());
+        assertNull(tracer.timings.get(0).getError());
+    }
+
+    private static final class RecordingTracer implements CommandTracer {
+        private final List<Command> startedCommands = new CopyOnWriteArrayList<>();
+        private final List<CommandTiming> timings = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void beforeCommand(Command command) {
+            startedCommands.add(command);
+        }
+
+        @Override
+        public void afterCommand(CommandTiming timing) {
+            timings.add(timing);
+        }
+    }
+
+    private static final class SlowCommandCodec implements CommandCodec<HttpRequest> {
+        private final CommandCodec<HttpRequest> delegate;
+
+        private SlowCommandCodec(CommandCodec<HttpRequest> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpRequest encode(Command command) {
+            sleep(ENCODE_DELAY);
+            return delegate.encode(command);
+        }
+
+        @Override
+        public Command decode(HttpRequest encodedCommand) {
+            return delegate.decode(encodedCommand);
+        }
+
+        @Override
+        public void defineCommand(String name, HttpMethod method, String pathPattern) {
+            delegate.defineCommand(name, method, pathPattern);
+        }
+
+        @Override
+        public void alias(String commandName, String isAnAliasFor) {
+            delegate.alias(commandName, isAnAliasFor);
+        }
+    }
+
+    private static final class SlowResponseCodec implements ResponseCodec<HttpResponse> {
+        private final ResponseCodec<HttpResponse> delegate;
+
+        private SlowResponseCodec(ResponseCodec<HttpResponse> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpResponse encode(Supplier<HttpResponse> factory, Response response) {
+            return delegate.encode(factory, response);
+        }
+
+        @Override
+        public Response decode(HttpResponse encodedResponse) {
+            sleep(DECODE_DELAY);
+            return delegate.decode(encodedResponse);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import io.appium.java_client.MobileCommand;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContextTrackerTest {
+    private static final SessionId SESSION_ID = new SessionId("123");
+
+    private static Response response(Object value) {
+        var response = new Response(SESSION_ID);
+        response.setValue(value);
+        return response;
+    }
+
+    private static ContextTracker trackerInContext(String context) {
+        var tracker = new ContextTracker();
+        tracker.onCommand(new Command(SESSION_ID, MobileCommand.SWITCH_TO_CONTEXT, Map.of("name", context)),
+                response(null));
+        return tracker;
+    }
+
+    @Test
+    void shouldTrackContextSwitches() {
+        var tracker = trackerInContext("WEBVIEW_1");
+        assertEquals(Optional.of("WEBVIEW_1"), tracker.getContext());
+
+        tracker.onCommand(new Command(SESSION_ID, DriverCommand.CLICK_ELEMENT, Map.of("id", "1")), response(null));
+        assertEquals(Optional.of("WEBVIEW_1"), tracker.getContext());
+
+        tracker.onCommand(new Command(SESSION_ID, MobileCommand.GET_CURRENT_CONTEXT_HANDLE), response("NATIVE_APP"));
+        assertEquals(Optional.of("NATIVE_APP"), tracker.getContext());
+    }
+
+    @Test
+    void shouldForgetContextOnFailures() {
+        var tracker = trackerInContext("WEBVIEW_1");
+        tracker.onCommand(new Command(SESSION_ID, DriverCommand.CLICK_ELEMENT, Map.of("id", "1")),
+                response(new NoSuchWindowException("The web view is gone")));
+        assertEquals(Optional.empty(), tracker.getContext());
+
+        tracker = trackerInContext("WEBVIEW_1");
+        tracker.onCommand(new Command(SESSION_ID, DriverCommand.GET_TITLE), null);
+        assertEquals(Optional.empty(), tracker.getContext());
+    }
+
+    @Test
+    void shouldForgetContextOnImplicitSwitches() {
+        var tracker = trackerInContext("WEBVIEW_1");
+        tracker.onCommand(new Command(SESSION_ID, DriverCommand.EXECUTE_SCRIPT,
+                Map.of("script", "return document.title", "args", new Object[0])), response("title"));
+        assertEquals(Optional.of("WEBVIEW_1"), tracker.getContext());
+
+        tracker.onCommand(new Command(SESSION_ID, DriverCommand.EXECUTE_SCRIPT,
+                Map.of("script", "mobile: activateApp", "args", new Object[0])), response(null));
+        assertEquals(Optional.empty(), tracker.getContext());
+    }
+
+    @Test
+    void shouldForgetContextOnAppManagementCommands() {
+        var commandNames = List.of(
+                "executeDriverScript", "reset", "activateApp", "terminateApp",
+                "removeApp", "installApp", "startActivity"
+        );
+        for (var commandName : commandNames) {
+            assertTrue(MobileCommand.commandRepository.containsKey(commandName), commandName);
+            var tracker = trackerInContext("WEBVIEW_1");
+            tracker.onCommand(new Command(SESSION_ID, commandName, Map.of()), response(null));
+            assertEquals(Optional.empty(), tracker.getContext(), commandName);
+        }
+    }
+}
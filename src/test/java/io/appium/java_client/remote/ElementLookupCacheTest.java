@@ -0,0 +1,73 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import io.appium.java_client.AppiumBy;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ElementLookupCacheTest {
+    private static final By LOCATOR = AppiumBy.accessibilityId("login");
+
+    @Test
+    void shouldKeepEntriesOnReadOnlyCommands() {
+        var cache = new ElementLookupCache();
+        var context = new RemoteWebElement();
+        var element = new RemoteWebElement();
+        cache.putElement(context, LOCATOR, element, cache.getGeneration());
+
+        cache.onCommand(DriverCommand.GET_ELEMENT_TEXT);
+        cache.onCommand(DriverCommand.FIND_ELEMENT);
+
+        assertSame(element, cache.getElement(context, LOCATOR));
+        assertSame(element, cache.getElement(context, AppiumBy.accessibilityId("login")));
+        assertNull(cache.getElement(new RemoteWebElement(), LOCATOR));
+        assertNull(cache.getElements(context, LOCATOR));
+    }
+
+    @Test
+    void shouldInvalidateEntriesOnMutatingCommands() {
+        var cache = new ElementLookupCache();
+        var context = new RemoteWebElement();
+        cache.putElements(context, LOCATOR, List.of(new RemoteWebElement()), cache.getGeneration());
+        assertEquals(1, cache.getElements(context, LOCATOR).size());
+
+        cache.onCommand(DriverCommand.CLICK_ELEMENT);
+
+        assertNull(cache.getElements(context, LOCATOR));
+    }
+
+    @Test
+    void shouldIgnoreResultsOfLookupsStartedBeforeInvalidation() {
+        var cache = new ElementLookupCache();
+        var context = new RemoteWebElement();
+        long generation = cache.getGeneration();
+
+        cache.onCommand(DriverCommand.SEND_KEYS_TO_ELEMENT);
+        cache.putElement(context, LOCATOR, new RemoteWebElement(), generation);
+
+        assertNull(cache.getElement(context, LOCATOR));
+    }
+}
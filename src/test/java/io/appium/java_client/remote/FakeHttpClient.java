@@ -0,0 +1,100 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.openqa.selenium.remote.http.Contents.bytes;
+
+/**
+ * In-process HTTP client, which answers every request with the same payload
+ * after the given delay or fails as if the server was unreachable.
+ */
+class FakeHttpClient implements HttpClient {
+    private final Duration delay;
+    private final byte[] payload;
+    private final boolean isFailing;
+
+    private FakeHttpClient(Duration delay, byte[] payload, boolean isFailing) {
+        this.delay = delay;
+        this.payload = payload;
+        this.isFailing = isFailing;
+    }
+
+    static HttpClient.Factory answering(String responseBody, Duration delay) {
+        return factory(delay, responseBody.getBytes(UTF_8), false);
+    }
+
+    static HttpClient.Factory failing() {
+        return factory(Duration.ZERO, new byte[0], true);
+    }
+
+    private static HttpClient.Factory factory(Duration delay, byte[] payload, boolean isFailing) {
+        return new HttpClient.Factory() {
+            @Override
+            public HttpClient createClient(ClientConfig config) {
+                return new FakeHttpClient(delay, payload, isFailing);
+            }
+        };
+    }
+
+    static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest req) {
+        sleep(delay);
+        if (isFailing) {
+            throw new UncheckedIOException(new ConnectException("Connection refused"));
+        }
+        return new HttpResponse()
+                .setStatus(200)
+                .setHeader("Content-Type", "application/json; charset=utf-8")
+                .setHeader("Content-Length", String.valueOf(payload.length))
+                .setContent(bytes(payload));
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest req) {
+        return CompletableFuture.supplyAsync(() -> execute(req));
+    }
+
+    @Override
+    public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+        throw new UnsupportedOperationException("Web sockets are not supported by the fake client");
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.remote;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyHistogramTest {
+
+    @Test
+    void shouldCalculatePercentilesWithinPrecision() {
+        var histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(Duration.ofMillis(i).toNanos());
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(Duration.ofMillis(1000), histogram.getMax());
+        assertThat(histogram.getPercentile(50).toNanos(), allOf(
+                greaterThanOrEqualTo(Duration.ofMillis(500).toNanos()),
+                lessThanOrEqualTo(Duration.ofMillis(516).toNanos())));
+        assertThat(histogram.getPercentile(99).toNanos(), allOf(
+                greaterThanOrEqualTo(Duration.ofMillis(990).toNanos()),
+                lessThanOrEqualTo(Duration.ofMillis(1000).toNanos())));
+        assertEquals(Duration.ofNanos(500_500_000), histogram.getMean());
+    }
+
+    @Test
+    void shouldRecordSmallValuesExactly() {
+        var histogram = new LatencyHistogram();
+        histogram.record(17_000);
+        histogram.record(-1);
+
+        assertEquals(Duration.ZERO, histogram.getPercentile(50));
+        assertEquals(Duration.ofNanos(17_000), histogram.getPercentile(100));
+    }
+
+    @Test
+    void shouldBeEmptyAfterReset() {
+        var histogram = new LatencyHistogram();
+        histogram.record(Duration.ofSeconds(1).toNanos());
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(Duration.ZERO, histogram.getPercentile(99));
+        assertEquals(Duration.ZERO, histogram.getMax());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.service.local;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BinaryPathsCacheTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldReturnStoredPathWhileFilesAreNotModified() throws IOException {
+        var npm = Files.createFile(tempDir.resolve("npm")).toFile();
+        var mainScript = Files.createFile(tempDir.resolve("main.js")).toFile();
+        var cacheFile = tempDir.resolve("cache").resolve("binaries.properties");
+
+        new BinaryPathsCache(cacheFile).put("main", List.of(npm), mainScript);
+
+        var cache = new BinaryPathsCache(cacheFile);
+        assertEquals(Optional.of(mainScript.getAbsoluteFile()), cache.get("main", List.of(npm)));
+        assertEquals(Optional.empty(), cache.get("other", List.of(npm)));
+    }
+
+    @Test
+    void shouldInvalidateEntryIfSourceIsModified() throws IOException {
+        var npm = Files.createFile(tempDir.resolve("npm"));
+        var mainScript = Files.createFile(tempDir.resolve("main.js")).toFile();
+        var cache = new BinaryPathsCache(tempDir.resolve("binaries.properties"));
+        cache.put("main", List.of(npm.toFile()), mainScript);
+
+        Files.setLastModifiedTime(npm, FileTime.fromMillis(npm.toFile().lastModified() + 10_000));
+
+        assertEquals(Optional.empty(), cache.get("main", List.of(npm.toFile())));
+    }
+
+    @Test
+    void shouldInvalidateEntryIfTargetIsRemoved() throws IOException {
+        var npm = Files.createFile(tempDir.resolve("npm")).toFile();
+        var mainScript = Files.createFile(tempDir.resolve("main.js"));
+        var cache = new BinaryPathsCache(tempDir.resolve("binaries.properties"));
+        cache.put("main", List.of(npm), mainScript.toFile());
+
+        Files.delete(mainScript);
+
+        assertEquals(Optional.empty(), cache.get("main", List.of(npm)));
+    }
+
+    @Test
+    void shouldRemoveTemporaryFileIfCacheCannotBeReplaced() throws IOException {
+        var npm = Files.createFile(tempDir.resolve("npm")).toFile();
+        var mainScript = Files.createFile(tempDir.resolve("main.js")).toFile();
+        // a non-empty directory cannot be replaced with a file
+        var cacheFile = Files.createDirectory(tempDir.resolve("binaries.properties"));
+        Files.createFile(cacheFile.resolve("child"));
+
+        new BinaryPathsCache(cacheFile).put("main", List.of(npm), mainScript);
+
+        try (var files = Files.list(tempDir)) {
+            assertEquals(0, files.filter(f -> f.getFileName().toString().endsWith(".tmp")).count());
+        }
+    }
+
+    @Test
+    void shouldInvalidateEntryIfMissingSourceIsCreated() throws IOException {
+        var npm = Files.createFile(tempDir.resolve("npm")).toFile();
+        var npmrc = tempDir.resolve(".npmrc");
+        var mainScript = Files.createFile(tempDir.resolve("main.js")).toFile();
+        var cache = new BinaryPathsCache(tempDir.resolve("binaries.properties"));
+        cache.put("main", List.of(npm, npmrc.toFile()), mainScript);
+        assertEquals(Optional.of(mainScript.getAbsoluteFile()), cache.get("main", List.of(npm, npmrc.toFile())));
+
+        Files.writeString(npmrc, "prefix=/opt/npm");
+
+        assertEquals(Optional.empty(), cache.get("main", List.of(npm, npmrc.toFile())));
+    }
+
+    @Test
+    void shouldKeepEntriesWithDifferentNamesApart() throws IOException {
+        var npm = Files.createFile(tempDir.resolve("npm")).toFile();
+        var mainScript = Files.createFile(tempDir.resolve("main.js")).toFile();
+        var otherMainScript = Files.createFile(tempDir.resolve("other.js")).toFile();
+        var cache = new BinaryPathsCache(tempDir.resolve("binaries.properties"));
+        cache.put("main", List.of(npm), mainScript);
+        cache.put("main@/opt/npm", List.of(npm), otherMainScript);
+
+        assertEquals(Optional.of(mainScript.getAbsoluteFile()), cache.get("main", List.of(npm)));
+        assertEquals(Optional.of(otherMainScript.getAbsoluteFile()), cache.get("main@/opt/npm", List.of(npm)));
+    }
+
+    @Test
+    void shouldBeDisabledByNoneValue() {
+        var previousValue = System.getProperty(BinaryPathsCache.CACHE_PATH);
+        try {
+            System.setProperty(BinaryPathsCache.CACHE_PATH, "none");
+            assertEquals(Optional.empty(), BinaryPathsCache.getDefault());
+
+            System.setProperty(BinaryPathsCache.CACHE_PATH, tempDir.resolve("binaries.properties").toString());
+            assertTrue(BinaryPathsCache.getDefault().isPresent());
+        } finally {
+            if (previousValue == null) {
+                System.clearProperty(BinaryPathsCache.CACHE_PATH);
+            } else {
+                System.setProperty(BinaryPathsCache.CACHE_PATH, previousValue);
+            }
+        }
+    }
+}
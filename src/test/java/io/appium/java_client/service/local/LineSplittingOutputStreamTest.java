@@ -0,0 +1,41 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.service.local;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+class LineSplittingOutputStreamTest {
+
+    @Test
+    void shouldSplitChunksIntoLines() {
+        var lines = new ArrayList<String>();
+        var stream = new LineSplittingOutputStream(lines::add, UTF_8);
+
+        stream.write("[ADB] first\n[debug] [XCUITest] sec".getBytes(UTF_8), 0, 34);
+        stream.write("ond\nthird\nfou".getBytes(UTF_8), 0, 13);
+        stream.write('r');
+        stream.write('\n');
+
+        assertThat(lines, contains("[ADB] first\n", "[debug] [XCUITest] second\n", "third\n", "four\n"));
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.service.local;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.TimeoutException;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ServerPoolTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final List<FakeServer> createdServers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failingStarts = new AtomicInteger();
+    private volatile CountDownLatch startLatch = new CountDownLatch(0);
+    private ServerPool<FakeServer> pool;
+
+    private ServerPool<FakeServer> createPool(int size) {
+        pool = new ServerPool<>(() -> {
+            var server = new FakeServer(createdServers.size());
+            createdServers.add(server);
+            return server;
+        }, size);
+        return pool;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        var deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "The condition has not been met in time");
+            Thread.sleep(10);
+        }
+    }
+
+    private long countRunningServers() {
+        return createdServers.stream().filter(FakeServer::isRunning).count();
+    }
+
+    @Test
+    void shouldKeepConfiguredCountOfServersStarted() throws InterruptedException {
+        createPool(2).start();
+        waitUntil(() -> pool.getIdleCount() == 2);
+
+        try (var lease = pool.acquire(TIMEOUT)) {
+            assertThat(lease.getServer().isRunning(), is(true));
+            assertThat(pool.getIdleCount(), equalTo(1));
+        }
+        assertThat(pool.getIdleCount(), equalTo(2));
+        assertThat(createdServers.size(), equalTo(2));
+    }
+
+    @Test
+    void shouldReleaseLeaseOnlyOnce() throws InterruptedException {
+        createPool(1).start();
+        var lease = pool.acquire(TIMEOUT);
+        lease.close();
+        lease.close();
+        assertThat(pool.getIdleCount(), equalTo(1));
+        try (var nextLease = pool.acquire(TIMEOUT)) {
+            assertThat(nextLease.getServer(), sameInstance(lease.getServer()));
+            assertThat(pool.getIdleCount(), equalTo(0));
+        }
+    }
+
+    @Test
+    void shouldRecycleServersAfterMaxLeases() throws InterruptedException {
+        createPool(1).withMaxLeasesPerServer(2).start();
+        FakeServer first;
+        try (var lease = pool.acquire(TIMEOUT)) {
+            first = lease.getServer();
+        }
+        try (var lease = pool.acquire(TIMEOUT)) {
+            assertThat(lease.getServer(), sameInstance(first));
+        }
+        try (var lease = pool.acquire(TIMEOUT)) {
+            assertThat(lease.getServer(), is(not(sameInstance(first))));
+        }
+        waitUntil(() -> !first.isRunning());
+        assertThat(first.stopsCount.get(), equalTo(1));
+    }
+
+    @Test
+    void shouldReplaceServersMarkedAsUnhealthy() throws InterruptedException {
+        createPool(1).start();
+        FakeServer first;
+        try (var lease = pool.acquire(TIMEOUT)) {
+            first = lease.getServer();
+            lease.markUnhealthy();
+        }
+        try (var lease = pool.acquire(TIMEOUT)) {
+            assertThat(lease.getServer(), is(not(sameInstance(first))));
+        }
+        waitUntil(() -> !first.isRunning());
+    }
+
+    @Test
+    void shouldReplaceIdleServersFailingHealthCheck() throws InterruptedException {
+        createPool(1).withHealthCheckInterval(Duration.ofMillis(20)).start();
+        waitUntil(() -> pool.getIdleCount() == 1);
+        var first = createdServers.get(0);
+        first.isRunning = false;
+
+        waitUntil(() -> createdServers.size() == 2 && pool.getIdleCount() == 1);
+        try (var lease = pool.acquire(TIMEOUT)) {
+            assertThat(lease.getServer(), sameInstance(createdServers.get(1)));
+        }
+    }
+
+    @Test
+    void shouldRetryFailedStartsOnHealthCheck() throws InterruptedException {
+        failingStarts.set(1);
+        createPool(1).withHealthCheckInterval(Duration.ofMillis(20)).start();
+        try (var lease = pool.acquire(TIMEOUT)) {
+            assertThat(lease.getServer(), sameInstance(createdServers.get(1)));
+        }
+        assertThat(createdServers.get(0).stopsCount.get(), equalTo(1));
+    }
+
+    @Test
+    void shouldTimeoutIfAllServersAreLeased() {
+        createPool(1).start();
+        try (var ignored = pool.acquire(TIMEOUT)) {
+            assertThrows(TimeoutException.class, () -> pool.acquire(Duration.ofMillis(50)));
+        }
+    }
+
+    @Test
+    void shouldRejectLeasesIfNotStarted() {
+        createPool(1);
+        assertThrows(IllegalStateException.class, () -> pool.acquire(TIMEOUT));
+    }
+
+    @Test
+    void shouldStopAllServersOnClose() throws InterruptedException {
+        createPool(2).start();
+        waitUntil(() -> pool.getIdleCount() == 2);
+        var lease = pool.acquire(TIMEOUT);
+
+        pool.close();
+        assertThat(countRunningServers(), equalTo(0L));
+        assertThrows(IllegalStateException.class, () -> pool.acquire(TIMEOUT));
+        assertThrows(IllegalStateException.class, () -> pool.start());
+
+        // releasing a lease of the closed pool must not start new servers
+        lease.close();
+        assertThat(createdServers.size(), equalTo(2));
+        assertThat(lease.getServer().stopsCount.get(), equalTo(1));
+    }
+
+    @Test
+    void shouldStopServersStartedAfterClose() throws InterruptedException {
+        startLatch = new CountDownLatch(1);
+        createPool(1).start();
+        waitUntil(() -> createdServers.size() == 1);
+
+        pool.close();
+        startLatch.countDown();
+        var server = createdServers.get(0);
+        waitUntil(() -> server.stopsCount.get() > 0);
+        assertThat(server.isRunning(), is(false));
+        assertThat(pool.getIdleCount(), equalTo(0));
+    }
+
+    private final class FakeServer implements ServerPool.Server {
+        private final URL url;
+        private final AtomicInteger stopsCount = new AtomicInteger();
+        private volatile boolean isRunning;
+
+        private FakeServer(int index) {
+            try {
+                this.url = new URL(String.format("http://127.0.0.1:%d/", 4723 + index));
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void start() {
+            try {
+                startLatch.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                // the pool is closed, but the server still starts in this case
+            }
+            if (failingStarts.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+                throw new IllegalStateException("The server cannot be started");
+            }
+            isRunning = true;
+        }
+
+        @Override
+        public void stop() {
+            isRunning = false;
+            stopsCount.incrementAndGet();
+        }
+
+        @Override
+        public boolean isRunning() {
+            return isRunning;
+        }
+
+        @Override
+        public URL getUrl() {
+            return url;
+        }
+    }
+}
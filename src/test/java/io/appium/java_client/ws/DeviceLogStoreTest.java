@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.ws;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+class DeviceLogStoreTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldQueryRecordsOfRollingSegments(boolean compress, @TempDir Path dir) throws IOException {
+        var store = new DeviceLogStore(dir, 256, 3, compress, Clock.systemUTC());
+        for (int i = 0; i < 100; i++) {
+            store.append(1000 + i, "line " + i + (i % 10 == 0 ? " ERROR" : ""));
+        }
+        try (var files = Files.list(dir)) {
+            assertThat(files.count(), equalTo(3L));
+        }
+
+        var errors = store.query(Instant.ofEpochMilli(0), Instant.ofEpochMilli(5000), m -> m.contains("ERROR"));
+        assertThat(errors.stream().map(DeviceLogStore.LogRecord::getMessage).collect(Collectors.toList()),
+                contains("line 70 ERROR", "line 80 ERROR", "line 90 ERROR"));
+
+        store.close();
+        var range = store.query(Instant.ofEpochMilli(1095), Instant.ofEpochMilli(1097), m -> true);
+        assertThat(range.stream().map(r -> r.getTimestamp().toEpochMilli()).collect(Collectors.toList()),
+                contains(1095L, 1096L, 1097L));
+
+        store.delete();
+        try (var files = Files.list(dir)) {
+            assertThat(files.count(), equalTo(0L));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldUseSegmentIndexToQueryLargeSegments(boolean compress, @TempDir Path dir) throws IOException {
+        var store = new DeviceLogStore(dir, 64 * 1024, 4, compress, Clock.systemUTC());
+        var padding = "x".repeat(100);
+        for (int i = 0; i < 1500; i++) {
+            store.append(i, String.format("line %04d %s", i, padding));
+        }
+
+        // the first two segments are sealed, the last one is still active
+        for (var range : new int[][]{{0, 2}, {700, 702}, {1200, 1202}, {1497, 1499}}) {
+            var records = store.query(Instant.ofEpochMilli(range[0]), Instant.ofEpochMilli(range[1]), m -> true);
+            assertThat(records.stream().map(r -> r.getMessage().substring(0, 9)).collect(Collectors.toList()),
+                    contains(IntStream.rangeClosed(range[0], range[1])
+                            .mapToObj(i -> String.format("line %04d", i))
+                            .toArray()));
+        }
+        store.delete();
+    }
+
+    @Test
+    void shouldNotLockStoreWhileConsumingRecords(@TempDir Path dir) throws IOException {
+        var store = new DeviceLogStore(dir, 1024, 3, false, Clock.systemUTC());
+        for (int i = 0; i < 10; i++) {
+            store.append(i, "line " + i);
+        }
+
+        var consumed = new ArrayList<String>();
+        store.query(Instant.ofEpochMilli(0), Instant.ofEpochMilli(100), m -> true, record -> {
+            consumed.add(record.getMessage());
+            if (consumed.size() == 1) {
+                assertDoesNotThrow(() -> CompletableFuture.runAsync(() -> store.append(10, "line 10"))
+                        .get(5, TimeUnit.SECONDS));
+            }
+        });
+        assertThat(consumed, hasSize(10));
+        assertThat(store.query(Instant.ofEpochMilli(10), Instant.ofEpochMilli(10), m -> true), hasSize(1));
+        store.delete();
+    }
+}
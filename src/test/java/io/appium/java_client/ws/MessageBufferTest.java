@@ -0,0 +1,191 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.ws;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageBufferTest {
+    private static final long BLOCKED_CHECK_MS = 200;
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void assertBlocked(CompletableFuture<Boolean> offer) throws InterruptedException {
+        Thread.sleep(BLOCKED_CHECK_MS);
+        assertFalse(offer.isDone());
+    }
+
+    @Test
+    void shouldDropOldestMessagesWhenHandlersFallBehind() throws InterruptedException {
+        var received = new CopyOnWriteArrayList<String>();
+        var isFirstBatchTaken = new CountDownLatch(1);
+        var canContinue = new CountDownLatch(1);
+        var isDelivered = new CountDownLatch(1);
+        try (var buffer = new MessageBuffer(2, MessageBuffer.OverflowPolicy.DROP_OLDEST)) {
+            buffer.start(batch -> {
+                isFirstBatchTaken.countDown();
+                try {
+                    canContinue.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                received.addAll(batch);
+                if (received.contains("4")) {
+                    isDelivered.countDown();
+                }
+            });
+
+            buffer.offer("1");
+            assertTrue(isFirstBatchTaken.await(5, TimeUnit.SECONDS));
+            List.of("2", "3", "4").forEach(buffer::offer);
+            assertThat(buffer.getLag(), equalTo(2));
+            assertThat(buffer.getDroppedCount(), equalTo(1L));
+
+            canContinue.countDown();
+            assertTrue(isDelivered.await(5, TimeUnit.SECONDS));
+            assertThat(received, contains("1", "3", "4"));
+            assertThat(buffer.getMaxLag(), equalTo(2));
+        }
+    }
+
+    @Test
+    void shouldBlockReaderUntilMessagesAreDrained() throws Exception {
+        var received = new CopyOnWriteArrayList<String>();
+        var isFirstBatchTaken = new CountDownLatch(1);
+        var canContinue = new CountDownLatch(1);
+        var isDelivered = new CountDownLatch(3);
+        try (var buffer = new MessageBuffer(1, MessageBuffer.OverflowPolicy.BLOCK)) {
+            buffer.start(batch -> {
+                isFirstBatchTaken.countDown();
+                await(canContinue);
+                received.addAll(batch);
+                batch.forEach(message -> isDelivered.countDown());
+            });
+
+            assertTrue(buffer.offer("1"));
+            assertTrue(isFirstBatchTaken.await(5, TimeUnit.SECONDS));
+            assertTrue(buffer.offer("2"));
+            var blockedOffer = CompletableFuture.supplyAsync(() -> buffer.offer("3"));
+            assertBlocked(blockedOffer);
+
+            canContinue.countDown();
+            assertTrue(blockedOffer.get(5, TimeUnit.SECONDS));
+            assertTrue(isDelivered.await(5, TimeUnit.SECONDS));
+            assertThat(received, contains("1", "2", "3"));
+            assertThat(buffer.getDroppedCount(), equalTo(0L));
+        }
+    }
+
+    @Test
+    void shouldReleaseBlockedReaderOnClose() throws Exception {
+        var isFirstBatchTaken = new CountDownLatch(1);
+        var canContinue = new CountDownLatch(1);
+        var buffer = new MessageBuffer(1, MessageBuffer.OverflowPolicy.BLOCK);
+        try {
+            buffer.start(batch -> {
+                isFirstBatchTaken.countDown();
+                await(canContinue);
+            });
+            buffer.offer("1");
+            assertTrue(isFirstBatchTaken.await(5, TimeUnit.SECONDS));
+            buffer.offer("2");
+            var blockedOffer = CompletableFuture.supplyAsync(() -> buffer.offer("3"));
+            assertBlocked(blockedOffer);
+
+            buffer.close();
+
+            assertFalse(blockedOffer.get(5, TimeUnit.SECONDS));
+            assertThat(buffer.getDroppedCount(), equalTo(1L));
+            assertFalse(buffer.offer("4"));
+        } finally {
+            canContinue.countDown();
+            buffer.close();
+        }
+    }
+
+    @Test
+    void shouldKeepEveryNthMessageWhileFull() throws InterruptedException {
+        var received = new CopyOnWriteArrayList<String>();
+        var isFirstBatchTaken = new CountDownLatch(1);
+        var canContinue = new CountDownLatch(1);
+        var isDelivered = new CountDownLatch(1);
+        try (var buffer = new MessageBuffer(2, MessageBuffer.OverflowPolicy.SAMPLE, 10, 3, message -> true)) {
+            buffer.start(batch -> {
+                isFirstBatchTaken.countDown();
+                await(canContinue);
+                received.addAll(batch);
+                if (received.contains("9")) {
+                    isDelivered.countDown();
+                }
+            });
+            buffer.offer("0");
+            assertTrue(isFirstBatchTaken.await(5, TimeUnit.SECONDS));
+
+            var kept = new ArrayList<String>();
+            for (int i = 1; i <= 9; i++) {
+                if (buffer.offer(String.valueOf(i))) {
+                    kept.add(String.valueOf(i));
+                }
+            }
+
+            // 1 and 2 fill the buffer, then each 3rd message replaces the oldest one
+            assertEquals(List.of("1", "2", "3", "6", "9"), kept);
+            assertThat(buffer.getDroppedCount(), equalTo(7L));
+            canContinue.countDown();
+            assertTrue(isDelivered.await(5, TimeUnit.SECONDS));
+            assertThat(received, contains("0", "6", "9"));
+        }
+    }
+
+    @Test
+    void shouldFilterLogcatMessages() {
+        var filter = LogMessageFilters.logcat('W', Set.of("ActivityManager"));
+        assertTrue(filter.test("10-18 12:34:56.789  1234  5678 E ActivityManager: ANR in com.example"));
+        assertTrue(filter.test("W/ActivityManager( 1234): Slow operation"));
+        assertFalse(filter.test("10-18 12:34:56.789  1234  5678 I ActivityManager: Start proc"));
+        assertFalse(filter.test("10-18 12:34:56.789  1234  5678 E chromium: error"));
+        assertTrue(filter.test("--------- beginning of crash"));
+    }
+
+    @Test
+    void shouldFilterSyslogMessages() {
+        var filter = LogMessageFilters.syslog(Set.of("Error"), Set.of("SpringBoard"));
+        assertTrue(filter.test("Oct 18 12:34:56 iPhone SpringBoard(UIKit)[57] <Error>: failure"));
+        assertFalse(filter.test("Oct 18 12:34:56 iPhone SpringBoard(UIKit)[57] <Notice>: event"));
+        assertFalse(filter.test("Oct 18 12:34:56 iPhone backboardd[60] <Error>: failure"));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * See the NOTICE file distributed with this work for additional
+ * information regarding copyright ownership.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.appium.java_client.ws;
+
+import io.appium.java_client.internal.VirtualThreads;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StringWebSocketClientTest {
+    private static final int MESSAGES_COUNT = 3000;
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty(VirtualThreads.USE_VIRTUAL_THREADS);
+    }
+
+    private static StringWebSocketClient createClient(boolean useVirtualThreads) {
+        System.setProperty(VirtualThreads.USE_VIRTUAL_THREADS, String.valueOf(useVirtualThreads));
+        return new StringWebSocketClient((HttpClient) null);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldDeliverMessagesInOrder(boolean useVirtualThreads) throws InterruptedException {
+        var client = createClient(useVirtualThreads);
+        var received = new CopyOnWriteArrayList<String>();
+        var completion = new CountDownLatch(MESSAGES_COUNT);
+        client.addMessageHandler(message -> {
+            received.add(message);
+            completion.countDown();
+        });
+
+        // more messages than the dispatcher queue may hold
+        List<String> expected = IntStream.range(0, MESSAGES_COUNT)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.toList());
+        expected.forEach(client::onText);
+
+        assertTrue(completion.await(10, TimeUnit.SECONDS));
+        assertEquals(expected, received);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void shouldStopListeningImmediatelyOnClose(boolean useVirtualThreads) throws InterruptedException {
+        var client = createClient(useVirtualThreads);
+        var disconnected = new CountDownLatch(1);
+        client.addDisconnectionHandler(disconnected::countDown);
+        client.onOpen();
+        assertTrue(client.isListening());
+
+        client.onClose(1000, "bye");
+
+        assertFalse(client.isListening());
+        assertTrue(disconnected.await(5, TimeUnit.SECONDS));
+        assertFalse(client.isListening());
+    }
+
+    @Test
+    void shouldRouteMessagesThroughBuffer() throws InterruptedException {
+        var client = createClient(false);
+        var received = new CopyOnWriteArrayList<String>();
+        var errors = new CopyOnWriteArrayList<Throwable>();
+        var isDelivered = new CountDownLatch(3);
+        var failure = new IllegalStateException("bad message");
+        client.addMessageHandler(message -> {
+            received.add(message);
+            isDelivered.countDown();
+            if ("bad".equals(message)) {
+                throw failure;
+            }
+        });
+        client.addErrorHandler(errors::add);
+        var buffer = new MessageBuffer(100, MessageBuffer.OverflowPolicy.DROP_OLDEST);
+        client.setMessageBuffer(buffer);
+        try {
+            List.of("a", "bad", "c").forEach(client::onText);
+
+            assertTrue(isDelivered.await(5, TimeUnit.SECONDS));
+            assertEquals(List.of("a", "bad", "c"), received);
+            assertEquals(List.of(failure), errors);
+        } finally {
+            client.removeAllHandlers();
+        }
+    }
+
+    @Test
+    void shouldCloseBufferWhenAllHandlersAreRemoved() {
+        var client = createClient(false);
+        var buffer = new MessageBuffer(100, MessageBuffer.OverflowPolicy.DROP_OLDEST);
+        client.setMessageBuffer(buffer);
+        assertSame(buffer, client.getMessageBuffer());
+
+        client.removeAllHandlers();
+
+        assertNull(client.getMessageBuffer());
+        assertFalse(buffer.offer("late message"));
+    }
+}